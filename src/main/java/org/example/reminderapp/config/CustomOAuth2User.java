@@ -0,0 +1,31 @@
+package org.example.reminderapp.config;
+
+import lombok.Getter;
+import org.example.reminderapp.entity.enums.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+
+// Provider principal plus the local account it was upserted into, so the success handler needs no lookup
+@Getter
+public class CustomOAuth2User implements OAuth2User, Serializable {
+
+    private final Long id;
+    private final String username;
+    private final Role role;
+    private final Map<String, Object> attributes;
+    private final Collection<? extends GrantedAuthority> authorities;
+    private final String name;
+
+    public CustomOAuth2User(OAuth2User oAuth2User, Long id, String username, Role role) {
+        this.id = id;
+        this.username = username;
+        this.role = role;
+        this.attributes = oAuth2User.getAttributes();
+        this.authorities = oAuth2User.getAuthorities();
+        this.name = oAuth2User.getName();
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.reminderapp.config;
+
+import lombok.Getter;
+import org.springframework.security.oauth2.core.oidc.OidcIdToken;
+import org.springframework.security.oauth2.core.oidc.OidcUserInfo;
+import org.springframework.security.oauth2.core.oidc.user.OidcUser;
+
+import java.util.Map;
+
+// OIDC logins (Google) must yield an OidcUser; this one carries the upserted local account as well
+@Getter
+public class CustomOidcUser extends CustomOAuth2User implements OidcUser {
+
+    private final Map<String, Object> claims;
+    private final OidcUserInfo userInfo;
+    private final OidcIdToken idToken;
+
+    public CustomOidcUser(OidcUser oidcUser, CustomOAuth2User account) {
+        super(oidcUser, account.getId(), account.getUsername(), account.getRole());
+        this.claims = oidcUser.getClaims();
+        this.userInfo = oidcUser.getUserInfo();
+        this.idToken = oidcUser.getIdToken();
+    }
+}
@@ -1,9 +1,11 @@
 package org.example.reminderapp.config;
 
 
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.example.reminderapp.entity.User;
+import org.example.reminderapp.entity.enums.Role;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -12,28 +14,26 @@ import java.util.Collection;
 import java.util.List;
 
 @Getter
-@RequiredArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class CustomUserDetails implements UserDetails {
 
-    private final User user;
+    private final Long id;
+    private final String username;
+    private final String password;
+    private final Role role;
 
-    public Long getId(){
-        return user.getId();
+    public CustomUserDetails(User user) {
+        this(user.getId(), user.getUsername(), user.getPassword(), user.getRole());
     }
 
-    @Override
-    public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority("Role_" + user.getRole().name()));
-    }
-
-    @Override
-    public String getPassword() {
-        return user.getPassword();
+    // Principal rebuilt from verified token claims, without a users lookup; it never carries a password
+    public static CustomUserDetails fromToken(Long id, String username, Role role) {
+        return new CustomUserDetails(id, username, null, role);
     }
 
     @Override
-    public String getUsername() {
-        return user.getUsername();
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("Role_" + role.name()));
     }
 
     @Override
@@ -1,28 +1,47 @@
 package org.example.reminderapp.config;
 
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.example.reminderapp.service.JwtService;
+import lombok.extern.slf4j.Slf4j;
+import org.example.reminderapp.entity.enums.Role;
+import org.example.reminderapp.service.TokenRevocationList;
+import org.example.reminderapp.service.VerifiedToken;
+import org.example.reminderapp.service.VerifiedTokenCache;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtService jwtService;
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
     private final UserDetailsService userDetailsService;
 
+    @Value("${jwt.stateless.enabled:true}")
+    private boolean stateless;
+
+    // Account management still loads the user, so a deleted or demoted account cannot act there on an old token
+    @Value("${jwt.stateless.verify-paths:/api/users/**}")
+    private List<String> verifyPaths;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
@@ -42,12 +61,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         String jwt = authHeader.substring(7);
-        String username = jwtService.extractUsername(jwt);
+        // Verifies the signature and expiry once; everything below reads the parsed claims
+        VerifiedToken token;
+        try {
+            token = verifiedTokenCache.verify(jwt);
+        } catch (JwtException | IllegalArgumentException e) {
+            // Expired tokens are routine with short-lived access tokens: stay anonymous so the entry point
+            // answers 401 and the client refreshes
+            log.debug("Rejected bearer token: {}", e.getMessage());
+            chain.doFilter(request, response);
+            return;
+        }
+        String username = token.getSubject();
+
+        // A revoked token, or any token of a deleted account, stays anonymous and ends in the 401 entry point
+        if (tokenRevocationList.isRevoked(token.getId()) || tokenRevocationList.isUserRevoked(token.getUserId())) {
+            chain.doFilter(request, response);
+            return;
+        }
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            UserDetails userDetails = loadPrincipal(token, request);
 
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            if (username.equals(userDetails.getUsername())) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -60,4 +96,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         chain.doFilter(request, response);
     }
+
+    // Trusts the signed userId/role claims unless the endpoint must see the current users row
+    private UserDetails loadPrincipal(VerifiedToken token, HttpServletRequest request) {
+        if (stateless && token.getUserId() != null && token.getRole() != null && !requiresUserCheck(request)) {
+            return CustomUserDetails.fromToken(token.getUserId(), token.getSubject(), Role.valueOf(token.getRole()));
+        }
+        return userDetailsService.loadUserByUsername(token.getSubject());
+    }
+
+    private boolean requiresUserCheck(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        for (String pattern : verifyPaths) {
+            if (PATH_MATCHER.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
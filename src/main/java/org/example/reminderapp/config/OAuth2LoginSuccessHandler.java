@@ -5,55 +5,41 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.example.reminderapp.entity.User;
-import org.example.reminderapp.entity.enums.Role;
-import org.example.reminderapp.repository.UserRepository;
 import org.example.reminderapp.service.JwtService;
+import org.example.reminderapp.service.RefreshTokenService;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.time.OffsetDateTime;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class OAuth2LoginSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
-    private final UserRepository userRepository;
     private final JwtService jwtService;
+    private final RefreshTokenService refreshTokenService;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request,
                                         HttpServletResponse response,
                                         Authentication authentication) throws IOException, ServletException {
-        OAuth2User oAuth2User = (OAuth2User) authentication.getPrincipal();
-        String email = oAuth2User.getAttribute("email");
-        String name = oAuth2User.getAttribute("name");
-
-        log.info("OAuth2 login success email: {} name: {}", email, name);
-
-        User user = userRepository.findByEmail(email).orElseGet(() -> {
-            User newUser = new User();
-            newUser.setEmail(email);
-            newUser.setUsername(email);
-            newUser.setFirstname(name);
-            newUser.setRole(Role.USER);
-            newUser.setPassword("");
-            newUser.setCreatedAt(OffsetDateTime.now());
-            return userRepository.save(newUser);
-        });
-
-        String token = jwtService.generateToken(user);
+        // Both user services upsert the account while authenticating, so the principal already carries it
+        CustomOAuth2User user = (CustomOAuth2User) authentication.getPrincipal();
+        String email = user.getAttribute("email");
+
+        log.info("OAuth2 login success email: {} name: {}", email, user.<String>getAttribute("name"));
+
+        String token = jwtService.generateToken(user.getId(), user.getUsername(), user.getRole());
+        String refreshToken = refreshTokenService.issue(user.getId()).getValue();
         log.info("Generated token for user: {}", email);
 
         // Вернуть JSON напрямую
         response.setStatus(HttpServletResponse.SC_OK);
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
-        response.getWriter().write("{\"token\": \"" + token + "\"}");
+        response.getWriter().write("{\"token\": \"" + token + "\", \"refreshToken\": \"" + refreshToken + "\"}");
         response.getWriter().flush();
     }
 }
@@ -0,0 +1,46 @@
+package org.example.reminderapp.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class PasswordHashingConfig {
+
+    // bcrypt gets its own small pool so a login storm burns these threads, not Tomcat's.
+    // A full queue rejects at once (AbortPolicy) and the client gets a 503 instead of waiting in line.
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor passwordHashingExecutor(MeterRegistry meterRegistry,
+                                                      @Value("${reminder.auth.hashing.threads:0}") int threads,
+                                                      @Value("${reminder.auth.hashing.queue-capacity:100}") int queueCapacity) {
+        int size = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        new ExecutorServiceMetrics(executor, "auth.hashing", Tags.empty()).bindTo(meterRegistry);
+        return executor;
+    }
+
+    // Register and login continue here once the hash is done: saving the user and issuing the refresh token wait on
+    // the database, and a slow database must not hold the bcrypt threads. Rejections end in the same 503.
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor authCompletionExecutor(MeterRegistry meterRegistry,
+                                                     @Value("${reminder.auth.completion.threads:16}") int threads,
+                                                     @Value("${reminder.auth.completion.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("auth-completion-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        new ExecutorServiceMetrics(executor, "auth.completion", Tags.empty()).bindTo(meterRegistry);
+        return executor;
+    }
+}
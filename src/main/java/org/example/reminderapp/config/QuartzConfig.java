@@ -1,7 +1,15 @@
 package org.example.reminderapp.config;
 
+import org.example.reminderapp.job.ReminderArchiveJob;
 import org.example.reminderapp.job.ReminderJob;
+import org.example.reminderapp.job.ReminderPartitionJob;
+import org.example.reminderapp.job.ReminderSearchIndexJob;
+import org.example.reminderapp.job.ReminderStatsReconcileJob;
+import org.example.reminderapp.job.ReminderTombstoneJob;
+import org.example.reminderapp.job.TokenRevocationSyncJob;
+import org.example.reminderapp.job.UserDeletionJob;
 import org.quartz.*;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -17,7 +25,7 @@ public class QuartzConfig {
     }
 
     @Bean
-    public Trigger reminderTrigger(JobDetail reminderJob) {
+    public Trigger reminderTrigger(@Qualifier("reminderJobDetail") JobDetail reminderJob) {
         return TriggerBuilder.newTrigger()
                 .forJob(reminderJob)
                 .withIdentity("reminderTrigger")
@@ -27,4 +35,140 @@ public class QuartzConfig {
                 .build();
     }
 
+    @Bean
+    public JobDetail reminderPartitionJobDetail() {
+        return JobBuilder.newJob(ReminderPartitionJob.class)
+                .withIdentity("reminderPartitionJob")
+                .storeDurably()
+                .build();
+    }
+
+    // Fires at startup too, so the current month's partition exists before the first write
+    @Bean
+    public Trigger reminderPartitionTrigger(@Qualifier("reminderPartitionJobDetail") JobDetail reminderPartitionJob) {
+        return TriggerBuilder.newTrigger()
+                .forJob(reminderPartitionJob)
+                .withIdentity("reminderPartitionTrigger")
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule()
+                        .withIntervalInHours(24)
+                        .repeatForever())
+                .build();
+    }
+
+    @Bean
+    public JobDetail reminderArchiveJobDetail() {
+        return JobBuilder.newJob(ReminderArchiveJob.class)
+                .withIdentity("reminderArchiveJob")
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger reminderArchiveTrigger(@Qualifier("reminderArchiveJobDetail") JobDetail reminderArchiveJob) {
+        return TriggerBuilder.newTrigger()
+                .forJob(reminderArchiveJob)
+                .withIdentity("reminderArchiveTrigger")
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule()
+                        .withIntervalInHours(1)
+                        .repeatForever())
+                .build();
+    }
+
+    @Bean
+    public JobDetail reminderTombstoneJobDetail() {
+        return JobBuilder.newJob(ReminderTombstoneJob.class)
+                .withIdentity("reminderTombstoneJob")
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger reminderTombstoneTrigger(@Qualifier("reminderTombstoneJobDetail") JobDetail reminderTombstoneJob) {
+        return TriggerBuilder.newTrigger()
+                .forJob(reminderTombstoneJob)
+                .withIdentity("reminderTombstoneTrigger")
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule()
+                        .withIntervalInHours(6)
+                        .repeatForever())
+                .build();
+    }
+
+    @Bean
+    public JobDetail reminderStatsReconcileJobDetail() {
+        return JobBuilder.newJob(ReminderStatsReconcileJob.class)
+                .withIdentity("reminderStatsReconcileJob")
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger reminderStatsReconcileTrigger(@Qualifier("reminderStatsReconcileJobDetail") JobDetail reminderStatsReconcileJob) {
+        return TriggerBuilder.newTrigger()
+                .forJob(reminderStatsReconcileJob)
+                .withIdentity("reminderStatsReconcileTrigger")
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule()
+                        .withIntervalInHours(6)
+                        .repeatForever())
+                .build();
+    }
+
+    @Bean
+    public JobDetail reminderSearchIndexJobDetail() {
+        return JobBuilder.newJob(ReminderSearchIndexJob.class)
+                .withIdentity("reminderSearchIndexJob")
+                .storeDurably()
+                .build();
+    }
+
+    // Fires at startup too, so reminders written before the index existed become searchable
+    @Bean
+    public Trigger reminderSearchIndexTrigger(@Qualifier("reminderSearchIndexJobDetail") JobDetail reminderSearchIndexJob) {
+        return TriggerBuilder.newTrigger()
+                .forJob(reminderSearchIndexJob)
+                .withIdentity("reminderSearchIndexTrigger")
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule()
+                        .withIntervalInHours(24)
+                        .repeatForever())
+                .build();
+    }
+
+    @Bean
+    public JobDetail userDeletionJobDetail() {
+        return JobBuilder.newJob(UserDeletionJob.class)
+                .withIdentity("userDeletionJob")
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger userDeletionTrigger(@Qualifier("userDeletionJobDetail") JobDetail userDeletionJob) {
+        return TriggerBuilder.newTrigger()
+                .forJob(userDeletionJob)
+                .withIdentity("userDeletionTrigger")
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule()
+                        .withIntervalInSeconds(30)
+                        .repeatForever())
+                .build();
+    }
+
+    @Bean
+    public JobDetail tokenRevocationSyncJobDetail() {
+        return JobBuilder.newJob(TokenRevocationSyncJob.class)
+                .withIdentity("tokenRevocationSyncJob")
+                .storeDurably()
+                .build();
+    }
+
+    // Fires at startup too; bounds how long a revocation made on another instance goes unnoticed here
+    @Bean
+    public Trigger tokenRevocationSyncTrigger(@Qualifier("tokenRevocationSyncJobDetail") JobDetail tokenRevocationSyncJob) {
+        return TriggerBuilder.newTrigger()
+                .forJob(tokenRevocationSyncJob)
+                .withIdentity("tokenRevocationSyncTrigger")
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule()
+                        .withIntervalInSeconds(15)
+                        .repeatForever())
+                .build();
+    }
+
 }
@@ -0,0 +1,135 @@
+package org.example.reminderapp.config;
+
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.example.reminderapp.service.VerifiedTokenCache;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// Runs ahead of JwtAuthenticationFilter so throttled requests never reach bcrypt, token loading or the DB.
+// Each configured route has its own per-IP and per-user limiters; the user is the subject of a valid bearer token.
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final RateLimitProperties properties;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final List<RouteLimit> routeLimits = new ArrayList<>();
+    private final Counter ipRejections;
+    private final Counter userRejections;
+    private final String retryAfter;
+
+    public RateLimitFilter(RateLimitProperties properties,
+                           VerifiedTokenCache verifiedTokenCache,
+                           MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.verifiedTokenCache = verifiedTokenCache;
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            routeLimits.add(new RouteLimit(route,
+                    route.getPerIp() > 0 ? newLimiter() : null,
+                    route.getPerUser() > 0 ? newLimiter() : null));
+        }
+        this.ipRejections = Counter.builder("http.rate-limit.rejected").tag("key", "ip").register(meterRegistry);
+        this.userRejections = Counter.builder("http.rate-limit.rejected").tag("key", "user").register(meterRegistry);
+        this.retryAfter = String.valueOf(Math.max(1, properties.getWindow().toSeconds()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+
+        RouteLimit limit = properties.isEnabled() ? match(request) : null;
+        if (limit == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        // Behind a proxy the client address comes from server.forward-headers-strategy
+        String ip = request.getRemoteAddr();
+        if (limit.ipLimiter != null && !limit.ipLimiter.tryAcquire(ip, limit.route.getPerIp())) {
+            ipRejections.increment();
+            log.warn("Rate limit exceeded for {} {} from {}", request.getMethod(), request.getRequestURI(), ip);
+            reject(response);
+            return;
+        }
+
+        if (limit.userLimiter != null) {
+            String username = username(request);
+            if (username != null && !limit.userLimiter.tryAcquire(username, limit.route.getPerUser())) {
+                userRejections.increment();
+                log.warn("Rate limit exceeded for {} {} by {}", request.getMethod(), request.getRequestURI(), username);
+                reject(response);
+                return;
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    private RouteLimit match(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        for (RouteLimit limit : routeLimits) {
+            List<String> methods = limit.route.getMethods();
+            if ((methods.isEmpty() || methods.contains(request.getMethod()))
+                    && PATH_MATCHER.match(limit.route.getPattern(), path)) {
+                return limit;
+            }
+        }
+        return null;
+    }
+
+    // Only a verified token names a user, otherwise anyone could spend someone else's budget.
+    // The verification is cached, so JwtAuthenticationFilter gets it for free afterwards.
+    private String username(HttpServletRequest request) {
+        String authHeader = request.getHeader("Authorization");
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return null;
+        }
+        try {
+            return verifiedTokenCache.verify(authHeader.substring(7)).getSubject();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+        response.setContentType("application/json");
+        response.getWriter().write("{\"error\":\"Too Many Requests\"}");
+    }
+
+    private SlidingWindowRateLimiter newLimiter() {
+        return new SlidingWindowRateLimiter(properties.getWindow(), properties.getIdleTimeout(), properties.getStripes());
+    }
+
+    private static final class RouteLimit {
+
+        private final RateLimitProperties.Route route;
+        private final SlidingWindowRateLimiter ipLimiter;
+        private final SlidingWindowRateLimiter userLimiter;
+
+        private RouteLimit(RateLimitProperties.Route route,
+                           SlidingWindowRateLimiter ipLimiter,
+                           SlidingWindowRateLimiter userLimiter) {
+            this.route = route;
+            this.ipLimiter = ipLimiter;
+            this.userLimiter = userLimiter;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.reminderapp.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties("reminder.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    private Duration window = Duration.ofMinutes(1);
+
+    // Counters not touched for this long are dropped
+    private Duration idleTimeout = Duration.ofMinutes(5);
+
+    private int stripes = 64;
+
+    // First matching route wins
+    private List<Route> routes = new ArrayList<>();
+
+    @Data
+    public static class Route {
+
+        private String pattern;
+
+        // Empty matches every method
+        private List<String> methods = new ArrayList<>();
+
+        // Requests per window; 0 = no limit
+        private int perIp;
+
+        private int perUser;
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.reminderapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// Active only when replica urls are configured; otherwise Boot's single DataSource is used as before
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "reminder.datasource.replica", name = "urls")
+public class ReplicaDataSourceConfig {
+
+    @Value("${reminder.datasource.replica.urls}")
+    private List<String> replicaUrls;
+
+    @Value("${reminder.datasource.replica.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${reminder.datasource.replica.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @Value("${reminder.datasource.replica.pool-size:10}")
+    private int replicaPoolSize;
+
+    @Value("${reminder.datasource.replica.connection-timeout:2s}")
+    private Duration replicaConnectionTimeout;
+
+    @Value("${reminder.datasource.replica.retry-after:30s}")
+    private Duration retryAfter;
+
+    @Value("${reminder.datasource.replica.read-your-writes:5s}")
+    private Duration readYourWrites;
+
+    @Value("${reminder.datasource.replica.max-lag:10s}")
+    private Duration maxLag;
+
+    @Value("${reminder.datasource.replica.probe-interval:5s}")
+    private Duration probeInterval;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceProperties properties) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(replicaUrls.get(i).trim());
+            replica.setUsername(replicaUsername);
+            replica.setPassword(replicaPassword);
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setReadOnly(true);
+            replica.setConnectionTimeout(replicaConnectionTimeout.toMillis());
+            // Do not fail startup if a replica is down; reads fall back to the primary
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(replica);
+        }
+
+        log.info("Routing read-only transactions to {} replica(s)", replicas.size());
+        ReplicaRoutingDataSource routing =
+                new ReplicaRoutingDataSource(primaryDataSource, replicas, retryAfter, readYourWrites, maxLag);
+        routing.startProbing(probeInterval);
+        return routing;
+    }
+
+    // The lazy proxy defers connection choice until after the transaction has marked it read-only
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy proxy =
+                new LazyConnectionDataSourceProxy(replicaRoutingDataSource.trackingWrites(primaryDataSource));
+        proxy.setReadOnlyDataSource(replicaRoutingDataSource);
+        return proxy;
+    }
+}
@@ -0,0 +1,231 @@
+package org.example.reminderapp.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Target for read-only connections: round-robins over healthy replicas and falls back to the primary.
+// A replica is taken out of rotation when a connection attempt fails, and by the periodic probe when it is
+// unreachable or lags the primary by more than max-lag.
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final int MAX_TRACKED_WRITERS = 10_000;
+
+    // Caught up when everything received has been replayed: an idle primary leaves the last replay timestamp old
+    // without the replica being behind. Not in recovery at all means it is no standby, and never lags.
+    private static final String LAG_SQL =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long retryAfterNanos;
+    private final long readYourWritesNanos;
+    private final long maxLagMillis;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile ScheduledExecutorService prober;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas,
+                                    Duration retryAfter, Duration readYourWritesWindow, Duration maxLag) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.retryAfterNanos = retryAfter.toNanos();
+        this.readYourWritesNanos = readYourWritesWindow.toNanos();
+        this.maxLagMillis = maxLag.toMillis();
+    }
+
+    // Per instance on purpose: every node routes its own reads, so every node checks its replicas itself
+    public void startProbing(Duration interval) {
+        if (replicas.isEmpty() || interval.isZero() || interval.isNegative()) {
+            return;
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("replica-probe-");
+        threadFactory.setDaemon(true);
+        prober = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        prober.scheduleWithFixedDelay(this::probe, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    void probe() {
+        for (Replica replica : replicas) {
+            try {
+                replica.probe();
+            } catch (RuntimeException e) {
+                log.warn("Read replica probe failed", e);
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!recentlyWrote()) {
+            Connection connection = replicaConnection();
+            if (connection != null) {
+                return connection;
+            }
+        }
+        return readOnly(primary.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+
+    // Wraps the primary so that every read-write transaction opens a read-your-writes window for its user
+    public DataSource trackingWrites(DataSource target) {
+        return new DelegatingDataSource(target) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                recordWrite();
+                return super.getConnection();
+            }
+        };
+    }
+
+    void recordWrite() {
+        if (readYourWritesNanos <= 0
+                || !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+        String user = currentUser();
+        if (user == null) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (lastWrites.size() >= MAX_TRACKED_WRITERS) {
+            lastWrites.values().removeIf(writtenAt -> now - writtenAt > readYourWritesNanos);
+        }
+        lastWrites.put(user, now);
+    }
+
+    boolean recentlyWrote() {
+        String user = currentUser();
+        if (user == null) {
+            return false;
+        }
+        Long writtenAt = lastWrites.get(user);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt > readYourWritesNanos) {
+            lastWrites.remove(user, writtenAt);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (prober != null) {
+            prober.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private Connection replicaConnection() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.isAvailable()) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replica.markUp();
+                return readOnly(connection);
+            } catch (SQLException e) {
+                replica.markDown(e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    private static Connection readOnly(Connection connection) throws SQLException {
+        connection.setReadOnly(true);
+        return connection;
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+
+    private final class Replica {
+
+        private final DataSource dataSource;
+        private volatile long downUntil;
+        private volatile boolean down;
+        private volatile boolean lagging;
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private boolean isAvailable() {
+            return !down || (!lagging && System.nanoTime() - downUntil >= 0);
+        }
+
+        private void markUp() {
+            if (down) {
+                down = false;
+                log.info("Read replica is available again");
+            }
+        }
+
+        private void markDown(String reason) {
+            downUntil = System.nanoTime() + retryAfterNanos;
+            down = true;
+            log.warn("Read replica unavailable, routing reads elsewhere for {} ms: {}",
+                    retryAfterNanos / 1_000_000, reason);
+        }
+
+        // A lagging replica stays out until a probe finds it caught up; retry-after alone does not bring it back
+        private void probe() {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(LAG_SQL)) {
+                long lagMillis = rs.next() ? (long) (rs.getDouble(1) * 1000) : 0;
+                if (maxLagMillis > 0 && lagMillis > maxLagMillis) {
+                    lagging = true;
+                    markDown("replication lag " + lagMillis + " ms");
+                } else {
+                    lagging = false;
+                    markUp();
+                }
+            } catch (SQLException e) {
+                markDown(e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.reminderapp.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+// Sliding window approximated from two fixed windows: the previous window's count is weighted by how much of it
+// still overlaps the sliding window. Keys are spread over independently locked stripes, each key holds one small
+// mutable slot, and a request allocates nothing once its key is known.
+public class SlidingWindowRateLimiter {
+
+    private final long windowMillis;
+    private final long idleMillis;
+    private final LongSupplier clock;
+    private final Stripe[] stripes;
+    private final int mask;
+
+    public SlidingWindowRateLimiter(Duration window, Duration idleTimeout, int stripes) {
+        this(window, idleTimeout, stripes, System::currentTimeMillis);
+    }
+
+    SlidingWindowRateLimiter(Duration window, Duration idleTimeout, int stripes, LongSupplier clock) {
+        this.windowMillis = window.toMillis();
+        // The previous window still counts, so a slot must live at least two windows
+        this.idleMillis = Math.max(idleTimeout.toMillis(), 2 * windowMillis);
+        this.clock = clock;
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.mask = size - 1;
+    }
+
+    // Counts the request and returns true while the key is under its limit; rejected requests are not counted
+    public boolean tryAcquire(String key, int limit) {
+        long now = clock.getAsLong();
+        int hash = key.hashCode();
+        Stripe stripe = stripes[(hash ^ (hash >>> 16)) & mask];
+        synchronized (stripe) {
+            stripe.evictIdle(now, idleMillis);
+            return stripe.slots.computeIfAbsent(key, k -> new Slot()).tryAcquire(now, windowMillis, limit);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.slots.size();
+            }
+        }
+        return size;
+    }
+
+    private static final class Stripe {
+
+        private final Map<String, Slot> slots = new HashMap<>();
+        private long lastSweep;
+
+        // Amortized: at most one pass over the stripe per idle period
+        private void evictIdle(long now, long idleMillis) {
+            if (now - lastSweep < idleMillis) {
+                return;
+            }
+            lastSweep = now;
+            slots.values().removeIf(slot -> now - slot.lastSeen >= idleMillis);
+        }
+    }
+
+    private static final class Slot {
+
+        private long windowStart;
+        private int previous;
+        private int current;
+        private long lastSeen;
+
+        private boolean tryAcquire(long now, long windowMillis, int limit) {
+            long start = now - now % windowMillis;
+            if (start != windowStart) {
+                previous = start - windowStart == windowMillis ? current : 0;
+                current = 0;
+                windowStart = start;
+            }
+            lastSeen = now;
+
+            double overlap = (double) (windowMillis - (now - start)) / windowMillis;
+            if (previous * overlap + current >= limit) {
+                return false;
+            }
+            current++;
+            return true;
+        }
+    }
+}
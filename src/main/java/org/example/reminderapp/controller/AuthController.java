@@ -2,11 +2,21 @@ package org.example.reminderapp.controller;
 
 
 import io.swagger.v3.oas.annotations.tags.Tag;
+import io.jsonwebtoken.JwtException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.reminderapp.config.CustomUserDetails;
+import org.example.reminderapp.dto.request.RefreshTokenRequestDto;
 import org.example.reminderapp.exception.ErrorResponse;
-import org.example.reminderapp.service.CustomUserDetailsService;
+import org.example.reminderapp.service.IssuedRefreshToken;
 import org.example.reminderapp.service.JwtService;
+import org.example.reminderapp.service.PasswordHashingService;
+import org.example.reminderapp.service.RefreshTokenService;
+import org.example.reminderapp.service.TokenRevocationList;
+import org.example.reminderapp.service.UserIdentityIndex;
+import org.example.reminderapp.service.VerifiedToken;
+import org.example.reminderapp.service.VerifiedTokenCache;
 import org.example.reminderapp.dto.response.AuthResponseDto;
 import org.example.reminderapp.dto.request.LoginRequestDto;
 import org.example.reminderapp.dto.request.UserCreateDto;
@@ -15,71 +25,117 @@ import org.example.reminderapp.entity.enums.Role;
 import org.example.reminderapp.repository.UserRepository;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.OffsetDateTime;
+import java.util.concurrent.CompletableFuture;
 
+@Slf4j
 @Tag(name = "Authentication", description = "Auth endpoints")
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
 public class AuthController {
 
-    private final AuthenticationManager authenticationManager;
     private final JwtService jwtService;
-    private final CustomUserDetailsService userDetailsService;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final UserIdentityIndex userIdentityIndex;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationList tokenRevocationList;
+    private final VerifiedTokenCache verifiedTokenCache;
 
+    // Hashing runs on the bounded password-hashing pool and the rest on the auth completion pool;
+    // the request thread is released while they work
     @PostMapping("/register")
-    public ResponseEntity<?> register(@Valid @RequestBody UserCreateDto request) {
-
-        if (userRepository.findByUsername(request.getUsername()).isPresent()) {
-            ErrorResponse error = new ErrorResponse(
-                    OffsetDateTime.now(),
-                    HttpStatus.CONFLICT.value(),
-                    "Conflict",
-                    "Username is already in use"
-            );
-            return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    public CompletableFuture<ResponseEntity<?>> register(@Valid @RequestBody UserCreateDto request) {
+
+        // Most new names miss the in-memory index and need no lookup; the unique constraints catch what slips past
+        if (userIdentityIndex.mightContainUsername(request.getUsername())
+                && userRepository.findByUsername(request.getUsername()).isPresent()) {
+            return CompletableFuture.completedFuture(conflict("Username is already in use"));
+        }
+        if (userIdentityIndex.mightContainEmail(request.getEmail())
+                && userRepository.findByEmail(request.getEmail()).isPresent()) {
+            return CompletableFuture.completedFuture(conflict("Email is already in use"));
         }
 
-        User user = new User();
-        user.setUsername(request.getUsername());
-        user.setEmail(request.getEmail());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
-        user.setBirthDate(request.getBirthDate());
-        user.setFirstname(request.getFirstname());
-        user.setLastname(request.getLastname());
-        user.setRole(Role.USER);
-        user.setCreatedAt(OffsetDateTime.now());
+        return passwordHashingService.encode(request.getPassword()).thenApply(passwordHash -> {
+            User user = new User();
+            user.setUsername(request.getUsername());
+            user.setEmail(request.getEmail());
+            user.setPassword(passwordHash);
+            user.setBirthDate(request.getBirthDate());
+            user.setFirstname(request.getFirstname());
+            user.setLastname(request.getLastname());
+            user.setRole(Role.USER);
+            user.setCreatedAt(OffsetDateTime.now());
 
-        userRepository.save(user);
+            userRepository.save(user);
+            userIdentityIndex.add(user);
 
-        String jwt = jwtService.generateToken(user);
-        return ResponseEntity.ok(new AuthResponseDto(jwt));
+            String jwt = jwtService.generateToken(user);
+            return ResponseEntity.ok(new AuthResponseDto(jwt, refreshTokenService.issue(user.getId()).getValue()));
+        });
     }
 
+    // The authenticated principal already is the loaded user, no second lookup
     @PostMapping("/login")
-    public ResponseEntity<AuthResponseDto> login(@RequestBody LoginRequestDto request) {
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        request.getUsername(),
-                        request.getPassword()
-                )
-        );
-        UserDetails user = userDetailsService.loadUserByUsername(request.getUsername());
-        String  jwt = jwtService.generateToken(user);
+    public CompletableFuture<ResponseEntity<AuthResponseDto>> login(@RequestBody LoginRequestDto request) {
+        return passwordHashingService.authenticate(request.getUsername(), request.getPassword())
+                .thenApply(authentication -> {
+                    CustomUserDetails user = (CustomUserDetails) authentication.getPrincipal();
+                    String jwt = jwtService.generateToken(user);
 
-        return ResponseEntity.ok(new AuthResponseDto(jwt));
+                    return ResponseEntity.ok(
+                            new AuthResponseDto(jwt, refreshTokenService.issue(user.getId()).getValue()));
+                });
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponseDto> refresh(@Valid @RequestBody RefreshTokenRequestDto request) {
+        IssuedRefreshToken refreshToken = refreshTokenService.rotate(request.getRefreshToken());
+        User user = userRepository.findById(refreshToken.getUserId())
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+
+        return ResponseEntity.ok(new AuthResponseDto(jwtService.generateToken(user), refreshToken.getValue()));
+    }
+
+    // Revokes the presented access token and the refresh token family it came with
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(value = "Authorization", required = false) String authorization,
+                                       @RequestBody(required = false) RefreshTokenRequestDto request) {
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            String accessToken = authorization.substring(7);
+            try {
+                VerifiedToken token = jwtService.verify(accessToken);
+                if (token.getId() != null) {
+                    tokenRevocationList.revoke(token.getId(), token.getExpiresAt());
+                }
+                verifiedTokenCache.invalidate(accessToken);
+            } catch (JwtException e) {
+                log.info("Logout with an unusable access token: {}", e.getMessage());
+            }
+        }
+        if (request != null && request.getRefreshToken() != null) {
+            refreshTokenService.revoke(request.getRefreshToken());
+        }
+        return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/success")
     public ResponseEntity<String> loginSuccess(@RequestParam("token") String token) {
         return ResponseEntity.ok("Your token is: " + token);
     }
+
+    private ResponseEntity<?> conflict(String message) {
+        ErrorResponse error = new ErrorResponse(
+                OffsetDateTime.now(),
+                HttpStatus.CONFLICT.value(),
+                "Conflict",
+                message
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
 }
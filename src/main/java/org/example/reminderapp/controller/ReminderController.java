@@ -5,25 +5,51 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.reminderapp.config.CustomUserDetails;
+import org.example.reminderapp.dto.request.ReminderBulkCreateDto;
+import org.example.reminderapp.dto.request.ReminderBulkDeleteDto;
+import org.example.reminderapp.dto.request.ReminderBulkUpdateDto;
 import org.example.reminderapp.dto.request.ReminderCreateDto;
 import org.example.reminderapp.dto.request.ReminderFilterDto;
+import org.example.reminderapp.dto.response.CalendarResponseDto;
+import org.example.reminderapp.dto.response.ReminderChangesResponseDto;
+import org.example.reminderapp.dto.response.ReminderBulkResponseDto;
+import org.example.reminderapp.dto.response.ReminderImportResponseDto;
 import org.example.reminderapp.dto.response.ReminderResponseDto;
+import org.example.reminderapp.dto.response.ReminderStatsResponseDto;
 import org.example.reminderapp.dto.request.ReminderUpdateDto;
+import org.example.reminderapp.exception.PreconditionFailedException;
+import org.example.reminderapp.service.ReminderBulkService;
+import org.example.reminderapp.service.ReminderCalendarService;
 import org.example.reminderapp.service.ReminderService;
+import org.example.reminderapp.service.ReminderStatsService;
+import org.example.reminderapp.service.ReminderSyncService;
+import org.example.reminderapp.service.ReminderVersionTracker;
+import org.example.reminderapp.service.transfer.ExportFormat;
+import org.example.reminderapp.service.transfer.ImportFormat;
+import org.example.reminderapp.service.transfer.ReminderExportService;
+import org.example.reminderapp.service.transfer.ReminderImportService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @Tag(name = "Reminders", description = "Reminder management")
 @Slf4j
@@ -33,30 +59,60 @@ import java.util.List;
 public class ReminderController {
 
     private final ReminderService reminderService;
+    private final ReminderBulkService reminderBulkService;
+    private final ReminderExportService reminderExportService;
+    private final ReminderImportService reminderImportService;
+    private final ReminderStatsService reminderStatsService;
+    private final ReminderCalendarService reminderCalendarService;
+    private final ReminderSyncService reminderSyncService;
+    private final ReminderVersionTracker reminderVersionTracker;
 
     @GetMapping
     public ResponseEntity<Page<ReminderResponseDto>> findAllReminders(@ModelAttribute ReminderFilterDto filter,
                                                                       @PageableDefault(size = 20, sort = "remindAt", direction = Sort.Direction.ASC) Pageable pageable,
-                                                                      @AuthenticationPrincipal UserDetails userDetails) {
+                                                                      @AuthenticationPrincipal UserDetails userDetails,
+                                                                      WebRequest webRequest) {
 
         Long currentUserId = ((CustomUserDetails) userDetails).getId();
+        // Read before the query: a write in between only makes the next poll refetch
+        String eTag = reminderVersionTracker.listETag(currentUserId,
+                reminderVersionTracker.currentVersion(currentUserId));
+        if (webRequest.checkNotModified(eTag)) {
+            log.debug("Reminders unchanged for user: {}", currentUserId);
+            return null;
+        }
         log.info("Fetching reminders with filter: {}, page: {}, userId: {}", filter, pageable, currentUserId);
 
         Page<ReminderResponseDto> reminders = reminderService.findAllReminders(filter, pageable, currentUserId);
         log.info("Found {} reminders", reminders.getTotalElements());
 
-        return ResponseEntity.ok(reminders);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(reminders);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<ReminderResponseDto> findRemindersById(@PathVariable Long id,
+                                                                 @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
                                                                  @AuthenticationPrincipal UserDetails userDetails) {
 
         Long currentUserId = ((CustomUserDetails) userDetails).getId();
+        long version = reminderVersionTracker.currentVersion(currentUserId);
+        String unchanged = reminderVersionTracker.matchingItemETag(ifNoneMatch, id, currentUserId, version);
+        if (unchanged != null) {
+            log.debug("Reminder {} unchanged for user: {}", id, currentUserId);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(unchanged)
+                    .build();
+        }
         log.info("Getting reminder by id: {} for user: {}", id, currentUserId);
 
         ReminderResponseDto reminder = reminderService.findRemindersById(id, currentUserId);
-        return ResponseEntity.ok(reminder);
+        return ResponseEntity.ok()
+                .eTag(reminderVersionTracker.itemETag(reminder.getVersion(), id, currentUserId, version))
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(reminder);
     }
 
     @PostMapping("/reminder/create")
@@ -75,30 +131,145 @@ public class ReminderController {
     @PutMapping("/{id}")
     public ResponseEntity<ReminderResponseDto> updateReminder(@PathVariable Long id,
                                                               @Valid @RequestBody ReminderUpdateDto updateDto,
+                                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                                               @AuthenticationPrincipal UserDetails userDetails) {
 
         Long currentUserId = ((CustomUserDetails) userDetails).getId();
         log.info("updating reminder: {} by user: {}, dto: {}", id, currentUserId, updateDto);
 
-        ReminderResponseDto updated = reminderService.updateReminder(id, updateDto, currentUserId);
+        ReminderResponseDto updated = reminderService.updateReminder(id, updateDto, expectedVersions(ifMatch), currentUserId);
         log.info("Reminder {} updated successfully", id);
 
-        return ResponseEntity.ok(updated);
+        return ResponseEntity.ok()
+                .eTag(eTag(updated))
+                .body(updated);
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteReminder(@PathVariable Long id,
+                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                                @AuthenticationPrincipal UserDetails userDetails) {
 
         Long userId = ((CustomUserDetails) userDetails).getId();
         log.info("Deleting reminder: {} for user: {}", id, userId);
 
-        reminderService.deleteReminder(id, userId);
+        reminderService.deleteReminder(id, expectedVersions(ifMatch), userId);
         log.info("Reminder {} deleted successfully", id);
 
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<ReminderBulkResponseDto> createReminders(@Valid @RequestBody ReminderBulkCreateDto bulkDto,
+                                                                   @AuthenticationPrincipal UserDetails userDetails) {
+
+        Long currentUserId = ((CustomUserDetails) userDetails).getId();
+        log.info("Bulk creating {} reminders for user: {}", bulkDto.getItems().size(), currentUserId);
+
+        ReminderBulkResponseDto created = reminderBulkService.createReminders(bulkDto.getItems(), currentUserId);
+        log.info("Bulk created {} reminders", created.getSucceeded());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    }
+
+    @PatchMapping("/bulk")
+    public ResponseEntity<ReminderBulkResponseDto> updateReminders(@Valid @RequestBody ReminderBulkUpdateDto bulkDto,
+                                                                   @AuthenticationPrincipal UserDetails userDetails) {
+
+        Long currentUserId = ((CustomUserDetails) userDetails).getId();
+        log.info("Bulk updating {} reminders for user: {}", bulkDto.getItems().size(), currentUserId);
+
+        ReminderBulkResponseDto updated = reminderBulkService.updateReminders(bulkDto.getItems(), currentUserId);
+        log.info("Bulk updated {} reminders, failed: {}", updated.getSucceeded(), updated.getFailed());
+
+        return ResponseEntity.ok(updated);
+    }
+
+    @DeleteMapping("/bulk")
+    public ResponseEntity<ReminderBulkResponseDto> deleteReminders(@Valid @RequestBody ReminderBulkDeleteDto bulkDto,
+                                                                   @AuthenticationPrincipal UserDetails userDetails) {
+
+        Long currentUserId = ((CustomUserDetails) userDetails).getId();
+        log.info("Bulk deleting {} reminders for user: {}", bulkDto.getIds().size(), currentUserId);
+
+        ReminderBulkResponseDto deleted = reminderBulkService.deleteReminders(bulkDto.getIds(), currentUserId);
+        log.info("Bulk deleted {} reminders, failed: {}", deleted.getSucceeded(), deleted.getFailed());
+
+        return ResponseEntity.ok(deleted);
+    }
+
+    @GetMapping("/calendar")
+    public ResponseEntity<CalendarResponseDto> getCalendar(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                           @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                           @RequestParam(defaultValue = "UTC") String tz,
+                                                           @RequestParam(defaultValue = "false") boolean includeArchived,
+                                                           @AuthenticationPrincipal UserDetails userDetails) {
+
+        Long currentUserId = ((CustomUserDetails) userDetails).getId();
+        log.info("Getting calendar for user: {}, from: {}, to: {}, tz: {}", currentUserId, from, to, tz);
+
+        CalendarResponseDto calendar = reminderCalendarService.getCalendar(from, to, tz, includeArchived, currentUserId);
+        // A matching If-None-Match turns this into a bodiless 304
+        return ResponseEntity.ok()
+                .eTag(reminderCalendarService.eTag(calendar))
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(calendar);
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<ReminderStatsResponseDto> getStats(@AuthenticationPrincipal UserDetails userDetails) {
+
+        Long currentUserId = ((CustomUserDetails) userDetails).getId();
+        log.info("Getting reminder stats for user: {}", currentUserId);
+
+        return ResponseEntity.ok(reminderStatsService.getStats(currentUserId));
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<ReminderChangesResponseDto> getChanges(@RequestParam(required = false) String since,
+                                                                 @AuthenticationPrincipal UserDetails userDetails) {
+
+        Long currentUserId = ((CustomUserDetails) userDetails).getId();
+        log.info("Getting reminder changes for user: {}", currentUserId);
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(reminderSyncService.changesSince(since, currentUserId));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportReminders(@RequestParam(defaultValue = "ndjson") String format,
+                                                                 @AuthenticationPrincipal UserDetails userDetails) {
+
+        Long currentUserId = ((CustomUserDetails) userDetails).getId();
+        ExportFormat exportFormat = ExportFormat.from(format);
+        log.info("Exporting reminders for user: {}, format: {}", currentUserId, exportFormat);
+
+        StreamingResponseBody body = out -> reminderExportService.exportReminders(currentUserId, exportFormat, out);
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"reminders." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    @PostMapping("/import")
+    public ResponseEntity<ReminderImportResponseDto> importReminders(@RequestParam(defaultValue = "csv") String format,
+                                                                     InputStream body,
+                                                                     @AuthenticationPrincipal UserDetails userDetails) throws IOException {
+
+        Long currentUserId = ((CustomUserDetails) userDetails).getId();
+        ImportFormat importFormat = ImportFormat.from(format);
+        log.info("Importing reminders for user: {}, format: {}", currentUserId, importFormat);
+
+        ReminderImportResponseDto summary = reminderImportService.importReminders(currentUserId, importFormat, body);
+        log.info("Imported {} reminders, duplicates: {}, failed: {}",
+                summary.getImported(), summary.getDuplicates(), summary.getFailed());
+
+        return ResponseEntity.ok(summary);
+    }
+
     @GetMapping("/v1/sort")
     public ResponseEntity<List<ReminderResponseDto>> sortReminders(
             @RequestParam String by,
@@ -136,12 +307,13 @@ public class ReminderController {
     public ResponseEntity<Page<ReminderResponseDto>> listReminders(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
             @AuthenticationPrincipal UserDetails userDetails) {
 
         Long currentUserId = ((CustomUserDetails) userDetails).getId();
         log.info("Listing reminders for user: {}, page: {}, size: {}", currentUserId, page, size);
 
-        Page<ReminderResponseDto> reminders = reminderService.listReminders(page, size, currentUserId);
+        Page<ReminderResponseDto> reminders = reminderService.listReminders(page, size, includeArchived, currentUserId);
         log.info("Listed {} reminders, total: {}", reminders.getNumberOfElements(), reminders.getTotalElements());
 
         return ResponseEntity.ok(reminders);
@@ -152,15 +324,45 @@ public class ReminderController {
             @RequestParam String query,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
             @AuthenticationPrincipal UserDetails userDetails) {
 
         Long currentUserId = ((CustomUserDetails) userDetails).getId();
         log.info("Searching reminders with query: '{}' for user: {}", query, currentUserId);
 
-        List<ReminderResponseDto> results = reminderService.searchReminders(query, page, size, currentUserId);
+        List<ReminderResponseDto> results = reminderService.searchReminders(query, page, size, includeArchived, currentUserId);
         log.info("Found {} reminders matching query", results.size());
 
         return ResponseEntity.ok(results);
     }
-}
 
+    private static String eTag(ReminderResponseDto reminder) {
+        return "\"" + reminder.getVersion() + "\"";
+    }
+
+    // Absent or "*" means unconditional; otherwise the precondition holds if any listed entity tag carries the
+    // current version (RFC 9110 13.1.1), either alone or in front of the user version that GET /{id} appends
+    private static Set<Long> expectedVersions(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        Set<Long> versions = new LinkedHashSet<>();
+        for (String tag : ifMatch.split(",")) {
+            tag = tag.trim();
+            // If-Match uses strong comparison: a weak validator never matches
+            if (tag.startsWith("W/")) {
+                continue;
+            }
+            tag = tag.replace("\"", "");
+            try {
+                versions.add(Long.parseLong(tag.contains(":") ? tag.substring(0, tag.indexOf(':')) : tag));
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring If-Match tag that is not a reminder version: {}", tag);
+            }
+        }
+        if (versions.isEmpty()) {
+            throw new PreconditionFailedException("If-Match does not match any reminder version: " + ifMatch);
+        }
+        return versions;
+    }
+}
@@ -13,12 +13,17 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.reminderapp.dto.request.UserFilterDto;
+import org.example.reminderapp.dto.response.UserDeletionResponseDto;
 import org.example.reminderapp.dto.response.UserProfileResponseDto;
 import org.example.reminderapp.service.UserService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+import java.util.Optional;
+import java.util.UUID;
+
 @Tag(name = "Users", description = "User management")
 @RestController
 @RequestMapping("api/users")
@@ -85,9 +90,21 @@ public class UserController {
        Long currentUserId = ((CustomUserDetails) userDetails).getId();
        log.info("Deleting user: {} by user: {}", id, currentUserId);
 
-       userService.deleteUser(id, currentUserId);
-       log.info("User {} deleted successfully", id);
+       Optional<UUID> deletionId = userService.deleteUser(id, currentUserId);
+       if (deletionId.isPresent()) {
+           log.info("User {} deletion {} accepted", id, deletionId.get());
+           return ResponseEntity.accepted()
+                   .location(URI.create("/api/users/deletions/" + deletionId.get()))
+                   .build();
+       }
 
+       log.info("User {} deleted successfully", id);
        return ResponseEntity.noContent().build();
     }
+
+    // No token needed: the account's tokens are revoked once its deletion is queued, the unguessable id is the access
+    @GetMapping("/deletions/{deletionId}")
+    public ResponseEntity<UserDeletionResponseDto> getDeletionStatus(@PathVariable UUID deletionId) {
+        return ResponseEntity.ok(userService.getDeletionStatus(deletionId));
+    }
 }
@@ -0,0 +1,11 @@
+package org.example.reminderapp.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class RefreshTokenRequestDto {
+
+    @NotBlank
+    private String refreshToken;
+}
@@ -0,0 +1,14 @@
+package org.example.reminderapp.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ReminderBulkDeleteDto {
+
+    @NotEmpty(message = "Ids are required")
+    private List<@NotNull Long> ids;
+}
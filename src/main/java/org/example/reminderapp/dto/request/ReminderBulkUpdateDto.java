@@ -0,0 +1,14 @@
+package org.example.reminderapp.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ReminderBulkUpdateDto {
+
+    @NotEmpty(message = "Items are required")
+    private List<@Valid ReminderBulkUpdateItemDto> items;
+}
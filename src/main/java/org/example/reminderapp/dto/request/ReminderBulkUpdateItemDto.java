@@ -0,0 +1,15 @@
+package org.example.reminderapp.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class ReminderBulkUpdateItemDto extends ReminderUpdateDto {
+
+    @NotNull(message = "Id is required")
+    private Long id;
+}
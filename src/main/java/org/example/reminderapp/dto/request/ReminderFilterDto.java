@@ -15,4 +15,5 @@ public class ReminderFilterDto {
     private OffsetDateTime remindAtEnd;
     private Status status;
     private ReminderType type;
+    private boolean includeArchived;
 }
@@ -12,4 +12,7 @@ public class UserFilterDto {
     private String firstname;
     private String lastname;
     private LocalDate birthDate;
+
+    // Free-text search over username, email and names, ordered by trigram similarity
+    private String query;
 }
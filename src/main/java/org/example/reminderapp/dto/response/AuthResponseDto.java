@@ -6,4 +6,5 @@ import lombok.Data;
 public class AuthResponseDto {
 
     private final String token;
+    private final String refreshToken;
 }
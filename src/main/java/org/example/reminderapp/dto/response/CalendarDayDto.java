@@ -0,0 +1,17 @@
+package org.example.reminderapp.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarDayDto {
+
+    private LocalDate date;
+    private List<CalendarReminderDto> reminders;
+}
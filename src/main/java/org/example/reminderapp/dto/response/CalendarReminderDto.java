@@ -0,0 +1,22 @@
+package org.example.reminderapp.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.reminderapp.entity.enums.ReminderType;
+import org.example.reminderapp.entity.enums.Status;
+
+import java.time.LocalTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarReminderDto {
+
+    private Long id;
+    private String title;
+    // Local time in the requested zone; the date is the enclosing day
+    private LocalTime time;
+    private Status status;
+    private ReminderType type;
+}
@@ -0,0 +1,21 @@
+package org.example.reminderapp.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarResponseDto {
+
+    private LocalDate from;
+    private LocalDate to;
+    private String tz;
+    private long total;
+    // Only days that have reminders, in date order
+    private List<CalendarDayDto> days;
+}
@@ -0,0 +1,21 @@
+package org.example.reminderapp.dto.response;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ReminderBulkResponseDto {
+
+    private final int total;
+    private final int succeeded;
+    private final int failed;
+    private final List<ReminderBulkItemResultDto> results;
+
+    public static ReminderBulkResponseDto of(List<ReminderBulkItemResultDto> results) {
+        int succeeded = (int) results.stream()
+                .filter(result -> result.getOutcome().isSuccess())
+                .count();
+        return new ReminderBulkResponseDto(results.size(), succeeded, results.size() - succeeded, results);
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.reminderapp.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReminderChangesResponseDto {
+
+    // Current state of every reminder created or modified since the token, oldest change first
+    private List<ReminderResponseDto> changed;
+    // Ids of reminders deleted or archived since the token
+    private List<Long> deleted;
+    private String nextToken;
+    // More changes are waiting; call again right away with nextToken
+    private boolean hasMore;
+}
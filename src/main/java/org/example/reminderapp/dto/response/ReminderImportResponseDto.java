@@ -0,0 +1,20 @@
+package org.example.reminderapp.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReminderImportResponseDto {
+
+    private long total;
+    private long imported;
+    private long duplicates;
+    private long failed;
+    // Capped, so a broken file cannot blow up the response
+    private List<ReminderImportErrorDto> errors;
+}
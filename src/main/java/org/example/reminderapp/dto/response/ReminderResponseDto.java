@@ -16,4 +16,5 @@ public class ReminderResponseDto {
     private ReminderType type;
     private Status status;
     private Long userId;
+    private Long version;
 }
@@ -0,0 +1,24 @@
+package org.example.reminderapp.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.reminderapp.entity.enums.ReminderType;
+import org.example.reminderapp.entity.enums.Status;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReminderStatsResponseDto {
+
+    private long total;
+    private Map<Status, Long> byStatus;
+    private Map<ReminderType, Long> byType;
+    // Pending reminders by UTC due date, today through the end of the ISO week
+    private long dueToday;
+    private long dueThisWeek;
+    private Map<LocalDate, Long> dueByDay;
+}
@@ -0,0 +1,21 @@
+package org.example.reminderapp.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.reminderapp.entity.enums.DeletionStatus;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDeletionResponseDto {
+
+    private Long userId;
+    private DeletionStatus status;
+    // Reminders, archived reminders and search terms removed so far
+    private long deletedRows;
+    private LocalDateTime requestedAt;
+    private LocalDateTime finishedAt;
+}
@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import org.example.reminderapp.entity.enums.ReminderType;
 import org.example.reminderapp.entity.enums.Status;
 
+import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 
 @Data
@@ -17,7 +18,8 @@ import java.time.OffsetDateTime;
 public class Reminder {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reminders_seq")
+    @SequenceGenerator(name = "reminders_seq", sequenceName = "reminders_seq", allocationSize = 50)
     private Long id;
 
     private String title;
@@ -37,4 +39,17 @@ public class Reminder {
     @JoinColumn(name = "user_id")
     private User user;
 
+    // Bumped on every write; the dispatcher and If-Match requests only apply against the version they read
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    // Set only for imported reminders; makes re-imports of the same file idempotent
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // Stamped in UTC by a trigger on every write; read-only here
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+
 }
@@ -0,0 +1,49 @@
+package org.example.reminderapp.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.reminderapp.entity.enums.ReminderType;
+import org.example.reminderapp.entity.enums.Status;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+
+import java.time.OffsetDateTime;
+
+// Read-only union of hot and archived reminders, queried only for historical listings
+
+@Data
+@Entity
+@Immutable
+@NoArgsConstructor
+@AllArgsConstructor
+@Subselect("SELECT id, title, description, remind_at, type, status, user_id, false AS archived FROM reminders " +
+           "UNION ALL " +
+           "SELECT id, title, description, remind_at, type, status, user_id, true AS archived FROM reminders_archive")
+@Synchronize({"reminders", "reminders_archive"})
+public class ReminderHistory {
+
+    @Id
+    private Long id;
+
+    private String title;
+
+    private String description;
+
+    @Column(name = "remind_at")
+    private OffsetDateTime remindAt;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    @Enumerated(EnumType.STRING)
+    private ReminderType type;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    private boolean archived;
+}
@@ -3,6 +3,10 @@ package org.example.reminderapp.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.example.reminderapp.entity.enums.Role;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
@@ -13,12 +17,16 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
+    @NaturalId(mutable = true)
     @Column(name = "username", unique = true, nullable = false)
     private String username;
 
@@ -41,7 +49,8 @@ public class User {
     @Column(name = "created_at")
     private OffsetDateTime createdAt;
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+    // No cascade: the database removes a user's rows via ON DELETE CASCADE, see UserDeletionService
+    @OneToMany(mappedBy = "user")
     private List<Reminder> reminders;
 
     @Column(name = "telegram_chat_id")
@@ -0,0 +1,7 @@
+package org.example.reminderapp.entity.enums;
+
+public enum DeletionStatus {
+    PENDING,
+    RUNNING,
+    DONE
+}
@@ -7,5 +7,12 @@ public enum Status {
     COMPLETED,
     CANCELLED,
     OVERDUE,
-    SENT;
+    SENT,
+    // Claimed by the dispatcher and being sent; picked up again if the claim is abandoned
+    PROCESSING;
+
+    // Finished reminders are moved to the archive once they are old enough
+    public boolean isFinished() {
+        return this == SENT || this == CANCELLED || this == COMPLETED || this == OVERDUE;
+    }
 }
@@ -0,0 +1,7 @@
+package org.example.reminderapp.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String msg) {
+        super(msg);
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.reminderapp.exception;
+
+public class SyncTokenExpiredException extends RuntimeException {
+    public SyncTokenExpiredException(String msg) {
+        super(msg);
+    }
+}
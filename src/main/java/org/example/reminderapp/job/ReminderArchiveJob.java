@@ -0,0 +1,30 @@
+package org.example.reminderapp.job;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.reminderapp.service.ReminderArchiveService;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class ReminderArchiveJob implements Job {
+
+    private final ReminderArchiveService reminderArchiveService;
+
+    @Override
+    public void execute(JobExecutionContext context) throws JobExecutionException {
+        log.info("Running reminder archiver");
+
+        try {
+            reminderArchiveService.archiveFinishedReminders();
+        } catch (Exception e) {
+            log.error("Reminder archiving failed", e);
+        }
+    }
+}
@@ -1,20 +1,24 @@
 package org.example.reminderapp.job;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.reminderapp.entity.Reminder;
 import org.example.reminderapp.entity.User;
 import org.example.reminderapp.entity.enums.Status;
 import org.example.reminderapp.repository.ReminderRepository;
+import org.example.reminderapp.service.ReminderVersionTracker;
 import org.example.reminderapp.service.notification.EmailNotificationService;
 import org.example.reminderapp.service.notification.TelegramBotService;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 
 @Slf4j
@@ -25,26 +29,57 @@ public class ReminderJob implements Job {
     private final ReminderRepository reminderRepository;
     private final EmailNotificationService emailNotificationService;
     private final TelegramBotService telegramBotService;
+    private final ReminderVersionTracker reminderVersionTracker;
 
+    @Value("${reminder.dispatch.lookback:7d}")
+    private Duration dispatchLookback;
+
+    // A claim older than this is taken to belong to a dispatcher that died mid-send
+    @Value("${reminder.dispatch.claim-timeout:10m}")
+    private Duration claimTimeout;
+
+    // No surrounding transaction: each status change is its own conditional update, so a concurrent
+    // user edit either lands before the claim (and the claim loses) or after it, never in between
     @Override
-    @Transactional
     public void execute(JobExecutionContext context) throws JobExecutionException {
         log.info("Checking for reminders to send");
 
         OffsetDateTime now = OffsetDateTime.now();
-        List<Reminder> reminders = reminderRepository.findAllByRemindAtBeforeAndStatus(now, Status.PENDING);
+        OffsetDateTime from = now.minus(dispatchLookback);
+        LocalDateTime claimedBefore = LocalDateTime.now(ZoneOffset.UTC).minus(claimTimeout);
+
+        // Whatever is older than the lookback is never selected below again; it ends as OVERDUE instead of
+        // staying PENDING forever. The owners' cached versions catch up within the tracker's TTL.
+        int missed = reminderRepository.expireMissed(from, Status.PENDING, Status.PROCESSING, claimedBefore,
+                Status.OVERDUE);
+        if (missed > 0) {
+            log.warn("Marked {} reminders older than {} as overdue without sending", missed, dispatchLookback);
+        }
 
-        if (reminders.isEmpty()) {
+        List<Reminder> reminders = reminderRepository.findAllByRemindAtBetweenAndStatus(from, now, Status.PENDING);
+        List<Reminder> abandoned = reminderRepository.findAbandonedClaims(from, now, Status.PROCESSING, claimedBefore);
+
+        if (reminders.isEmpty() && abandoned.isEmpty()) {
             log.info("No reminders found to send");
             return;
         }
 
-        log.info("Found {} reminders. Processing...", reminders.size());
+        log.info("Found {} reminders and {} abandoned claims. Processing...", reminders.size(), abandoned.size());
 
         reminders.forEach(this::processReminder);
+        abandoned.forEach(this::processReminder);
     }
 
+    // At-least-once: the claim is PROCESSING, and only a finished send marks it SENT. A crash in between
+    // leaves a claim that a later run re-takes after claim-timeout, so the notification may go out twice.
     private void processReminder(Reminder reminder) {
+        if (!transition(reminder, reminder.getVersion(), reminder.getStatus(), Status.PROCESSING)) {
+            log.info("Reminder {} changed since it was read, skipping", reminder.getId());
+            return;
+        }
+        // The claim bumped the version by one
+        long claimedVersion = reminder.getVersion() + 1;
+
         try {
             User user = reminder.getUser();
             String title = reminder.getTitle();
@@ -59,14 +94,26 @@ public class ReminderJob implements Job {
                 }
             }
 
-            reminder.setStatus(Status.SENT);
-            reminderRepository.save(reminder);
             log.info("Successfully sent reminder {}", reminder.getId());
         } catch (Exception e) {
             log.error("Failed to send reminder {}", reminder.getId(), e);
-            reminder.setStatus(Status.OVERDUE);
-            reminderRepository.save(reminder);
+            // If the user edited it since, their edit wins and the claim is retried once it times out
+            transition(reminder, claimedVersion, Status.PROCESSING, Status.OVERDUE);
+            return;
+        }
+
+        if (!transition(reminder, claimedVersion, Status.PROCESSING, Status.SENT)) {
+            log.warn("Reminder {} was edited while being sent, it will be sent again", reminder.getId());
+        }
+    }
+
+    // Each transition commits on its own, so the owner's cached version can be dropped right away
+    private boolean transition(Reminder reminder, long version, Status from, Status to) {
+        if (reminderRepository.transitionStatus(reminder.getId(), version, from, to) == 0) {
+            return false;
         }
+        reminderVersionTracker.invalidate(reminder.getUser().getId());
+        return true;
     }
 
     private String buildMessage(Reminder reminder) {
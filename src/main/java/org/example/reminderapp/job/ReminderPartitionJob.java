@@ -0,0 +1,30 @@
+package org.example.reminderapp.job;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.reminderapp.service.ReminderPartitionService;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class ReminderPartitionJob implements Job {
+
+    private final ReminderPartitionService reminderPartitionService;
+
+    @Override
+    public void execute(JobExecutionContext context) throws JobExecutionException {
+        log.info("Running reminders partition maintenance");
+
+        try {
+            reminderPartitionService.maintainPartitions();
+        } catch (Exception e) {
+            log.error("Reminders partition maintenance failed", e);
+        }
+    }
+}
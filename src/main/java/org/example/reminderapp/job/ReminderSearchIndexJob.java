@@ -0,0 +1,30 @@
+package org.example.reminderapp.job;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.reminderapp.service.search.ReminderSearchIndex;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class ReminderSearchIndexJob implements Job {
+
+    private final ReminderSearchIndex reminderSearchIndex;
+
+    @Override
+    public void execute(JobExecutionContext context) throws JobExecutionException {
+        log.info("Repairing reminder search index");
+
+        try {
+            reminderSearchIndex.repair();
+        } catch (Exception e) {
+            log.error("Reminder search index repair failed", e);
+        }
+    }
+}
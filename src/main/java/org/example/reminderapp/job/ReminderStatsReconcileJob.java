@@ -0,0 +1,30 @@
+package org.example.reminderapp.job;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.reminderapp.service.ReminderStatsService;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class ReminderStatsReconcileJob implements Job {
+
+    private final ReminderStatsService reminderStatsService;
+
+    @Override
+    public void execute(JobExecutionContext context) throws JobExecutionException {
+        log.info("Running reminder stats reconciler");
+
+        try {
+            reminderStatsService.reconcileAll();
+        } catch (Exception e) {
+            log.error("Reminder stats reconciliation failed", e);
+        }
+    }
+}
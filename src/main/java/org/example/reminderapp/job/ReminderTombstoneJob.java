@@ -0,0 +1,30 @@
+package org.example.reminderapp.job;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.reminderapp.service.ReminderSyncService;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class ReminderTombstoneJob implements Job {
+
+    private final ReminderSyncService reminderSyncService;
+
+    @Override
+    public void execute(JobExecutionContext context) throws JobExecutionException {
+        log.info("Compacting reminder tombstones");
+
+        try {
+            reminderSyncService.purgeTombstones();
+        } catch (Exception e) {
+            log.error("Reminder tombstone compaction failed", e);
+        }
+    }
+}
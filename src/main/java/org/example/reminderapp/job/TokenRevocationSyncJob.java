@@ -0,0 +1,33 @@
+package org.example.reminderapp.job;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.reminderapp.service.RefreshTokenService;
+import org.example.reminderapp.service.TokenRevocationList;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class TokenRevocationSyncJob implements Job {
+
+    private final TokenRevocationList tokenRevocationList;
+    private final RefreshTokenService refreshTokenService;
+
+    @Override
+    public void execute(JobExecutionContext context) throws JobExecutionException {
+        log.debug("Syncing token revocation list");
+
+        try {
+            tokenRevocationList.refresh();
+            refreshTokenService.purgeExpired();
+        } catch (Exception e) {
+            log.error("Token revocation sync failed", e);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.example.reminderapp.dto.request.ReminderCreateDto;
 import org.example.reminderapp.dto.request.ReminderUpdateDto;
 import org.example.reminderapp.dto.response.ReminderResponseDto;
 import org.example.reminderapp.entity.Reminder;
+import org.example.reminderapp.entity.ReminderHistory;
 import org.mapstruct.*;
 
 import java.util.List;
@@ -17,10 +18,17 @@ public interface ReminderMapperDto {
     @Mapping(target = "userId", ignore = true)
     ReminderResponseDto toDto(Reminder entity);
 
+    @Mapping(target = "userId", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    ReminderResponseDto toDto(ReminderHistory entity);
+
     //DTO -> Entity
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "status", ignore = true)
     @Mapping(target = "user", ignore = true)
+    @Mapping(target = "contentHash", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
 //    @Mapping(target = "remindAt", source = "remindAt")
     Reminder toEntity(ReminderCreateDto dto);
 
@@ -32,6 +40,9 @@ public interface ReminderMapperDto {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "status", ignore = true)
     @Mapping(target = "user", ignore = true)
+    @Mapping(target = "contentHash", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
 //    @Mapping(target = "remindAt", source = "remindAt")
     void updateEntity(ReminderUpdateDto dto, @MappingTarget Reminder entity);
 }
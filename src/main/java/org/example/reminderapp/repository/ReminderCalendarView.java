@@ -0,0 +1,20 @@
+package org.example.reminderapp.repository;
+
+import org.example.reminderapp.entity.enums.ReminderType;
+import org.example.reminderapp.entity.enums.Status;
+
+import java.time.OffsetDateTime;
+
+// Column subset for calendar queries; description is never read
+public interface ReminderCalendarView {
+
+    Long getId();
+
+    String getTitle();
+
+    OffsetDateTime getRemindAt();
+
+    Status getStatus();
+
+    ReminderType getType();
+}
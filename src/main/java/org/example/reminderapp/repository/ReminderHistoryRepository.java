@@ -0,0 +1,31 @@
+package org.example.reminderapp.repository;
+
+import org.example.reminderapp.entity.ReminderHistory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public interface ReminderHistoryRepository extends JpaRepository<ReminderHistory, Long>,
+        JpaSpecificationExecutor<ReminderHistory> {
+
+    Page<ReminderHistory> findByUserId(Long userId, Pageable pageable);
+
+    @Query("SELECT h.id AS id, h.title AS title, h.remindAt AS remindAt, h.status AS status, h.type AS type " +
+           "FROM ReminderHistory h " +
+           "WHERE h.user.id = :userId AND h.remindAt >= :from AND h.remindAt < :to " +
+           "ORDER BY h.remindAt, h.id")
+    List<ReminderCalendarView> findCalendar(@Param("userId") Long userId,
+                                            @Param("from") OffsetDateTime from,
+                                            @Param("to") OffsetDateTime to);
+
+    @Query("SELECT h " +
+           "FROM ReminderHistory h " +
+           "WHERE h.user.id = :userId AND (h.title LIKE %:query% OR h.description LIKE %:query%)")
+    Page<ReminderHistory> search(@Param("userId") Long userId, @Param("query") String query, Pageable pageable);
+}
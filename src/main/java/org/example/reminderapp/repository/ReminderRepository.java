@@ -1,31 +1,143 @@
 package org.example.reminderapp.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.reminderapp.entity.Reminder;
+import org.example.reminderapp.entity.enums.ReminderType;
 import org.example.reminderapp.entity.enums.Status;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ReminderRepository extends JpaRepository<Reminder, Long>,
         JpaSpecificationExecutor<Reminder> {
-    List<Reminder> findAllByRemindAtBeforeAndStatus(OffsetDateTime dateTime,
-                                                    Status status);
 
-    Page<Reminder> findByUserIdAndTitleContainingOrDescriptionContaining(Long userId,
-                                                                         String title,
-                                                                         String description,
-                                                                         Pageable pageable);
+    int STREAM_FETCH_SIZE = 500;
+
+    // Lower bound lets the planner prune everything but the current and recent partitions
+    @EntityGraph(attributePaths = "user")
+    List<Reminder> findAllByRemindAtBetweenAndStatus(OffsetDateTime from,
+                                                     OffsetDateTime to,
+                                                     Status status);
+
+    // Claims whose dispatcher died before finishing: the claim stamped updated_at and nothing has touched them since
+    @Query("SELECT r FROM Reminder r JOIN FETCH r.user " +
+           "WHERE r.remindAt BETWEEN :from AND :to AND r.status = :status AND r.updatedAt < :claimedBefore")
+    List<Reminder> findAbandonedClaims(@Param("from") OffsetDateTime from,
+                                       @Param("to") OffsetDateTime to,
+                                       @Param("status") Status status,
+                                       @Param("claimedBefore") LocalDateTime claimedBefore);
 
     Page<Reminder> findByUserId(Long userId, Pageable pageable);
 
+    // Range over (user_id, remind_at): served by ix_reminders_user_remind_at and pruned to the covered partitions
+    @Query("SELECT r.id AS id, r.title AS title, r.remindAt AS remindAt, r.status AS status, r.type AS type " +
+           "FROM Reminder r " +
+           "WHERE r.user.id = :userId AND r.remindAt >= :from AND r.remindAt < :to " +
+           "ORDER BY r.remindAt, r.id")
+    List<ReminderCalendarView> findCalendar(@Param("userId") Long userId,
+                                            @Param("from") OffsetDateTime from,
+                                            @Param("to") OffsetDateTime to);
+
+    Optional<Reminder> findByIdAndUserId(Long id, Long userId);
+
+    boolean existsByIdAndUserId(Long id, Long userId);
+
+    @Query("SELECT r.version FROM Reminder r WHERE r.id = :id AND r.user.id = :userId")
+    Optional<Long> findVersionByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    // Server-side cursor: must be consumed inside a transaction and closed afterwards
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r FROM Reminder r WHERE r.user.id = :userId ORDER BY r.remindAt, r.id")
+    Stream<Reminder> streamAllByUserId(@Param("userId") Long userId);
+
+    // Owner-scoped writes: 0 affected rows means "not found" or "not owned"
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Reminder r " +
+           "SET r.title = COALESCE(:title, r.title), " +
+           "r.description = COALESCE(:description, r.description), " +
+           "r.remindAt = COALESCE(:remindAt, r.remindAt), " +
+           "r.type = COALESCE(:type, r.type), " +
+           "r.version = r.version + 1 " +
+           "WHERE r.id = :id AND r.user.id = :userId " +
+           "AND (:version IS NULL OR r.version = :version)")
+    int updateByIdAndUserId(@Param("id") Long id,
+                            @Param("userId") Long userId,
+                            @Param("version") Long version,
+                            @Param("title") String title,
+                            @Param("description") String description,
+                            @Param("remindAt") OffsetDateTime remindAt,
+                            @Param("type") ReminderType type);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Reminder r WHERE r.id = :id AND r.user.id = :userId " +
+           "AND (:version IS NULL OR r.version = :version)")
+    int deleteByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId, @Param("version") Long version);
+
+    // Compare-and-set used by the dispatcher; commits on its own so no row lock outlives the statement
+    @Transactional
+    @Modifying
+    @Query("UPDATE Reminder r SET r.status = :to, r.version = r.version + 1 " +
+           "WHERE r.id = :id AND r.version = :version AND r.status = :from")
+    int transitionStatus(@Param("id") Long id,
+                         @Param("version") Long version,
+                         @Param("from") Status from,
+                         @Param("to") Status to);
+
+    // Reminders that fell out of the dispatch window unsent, e.g. after an outage longer than the lookback.
+    // Served by the partial indexes on PENDING and PROCESSING remind_at.
+    @Transactional
+    @Modifying
+    @Query("UPDATE Reminder r SET r.status = :to, r.version = r.version + 1 " +
+           "WHERE r.remindAt < :before " +
+           "AND (r.status = :pending OR (r.status = :processing AND r.updatedAt < :claimedBefore))")
+    int expireMissed(@Param("before") OffsetDateTime before,
+                     @Param("pending") Status pending,
+                     @Param("processing") Status processing,
+                     @Param("claimedBefore") LocalDateTime claimedBefore,
+                     @Param("to") Status to);
+
+    // Bulk operations
+
+    List<Reminder> findAllByIdInAndUserId(Collection<Long> ids, Long userId);
+
+    @Query("SELECT r.id FROM Reminder r WHERE r.id IN :ids AND r.user.id = :userId")
+    List<Long> findIdsByIdInAndUserId(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    @Query("SELECT r.id FROM Reminder r WHERE r.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Reminder r WHERE r.id IN :ids AND r.user.id = :userId")
+    int deleteAllByIdInAndUserId(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    // Archived reminders count too, so re-importing a file after its rows were archived adds nothing
+    @Query(value = "SELECT content_hash FROM reminders WHERE user_id = :userId AND content_hash IN (:hashes) " +
+                   "UNION " +
+                   "SELECT content_hash FROM reminders_archive WHERE user_id = :userId AND content_hash IN (:hashes)",
+           nativeQuery = true)
+    List<String> findContentHashes(@Param("userId") Long userId, @Param("hashes") Collection<String> hashes);
+
 
     @Query("SELECT r " +
            "FROM Reminder r " +
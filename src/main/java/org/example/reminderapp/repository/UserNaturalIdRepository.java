@@ -0,0 +1,14 @@
+package org.example.reminderapp.repository;
+
+import org.example.reminderapp.entity.User;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface UserNaturalIdRepository {
+
+    Optional<User> findByUsername(String username);
+
+    // In the order of ids, null where a user no longer exists
+    List<User> loadAllById(List<Long> ids);
+}
@@ -2,17 +2,16 @@ package org.example.reminderapp.repository.specification;
 
 import jakarta.persistence.criteria.Predicate;
 import org.example.reminderapp.dto.request.ReminderFilterDto;
-import org.example.reminderapp.entity.Reminder;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.ArrayList;
 import java.util.List;
 
-// Class for hard filtres
+// Class for hard filtres (works for Reminder and ReminderHistory, which share attribute names)
 
 public class ReminderSpecification {
 
-    public static Specification<Reminder> withFilters(ReminderFilterDto filter, Long currentUserId) {
+    public static <T> Specification<T> withFilters(ReminderFilterDto filter, Long currentUserId) {
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
 
@@ -0,0 +1,69 @@
+package org.example.reminderapp.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Lock-free bloom filter sized for ten to twenty bits per expected entry. No false negatives; once overfilled the
+// false-positive rate climbs, so callers must confirm a hit against the source of truth.
+final class ConcurrentBloomFilter {
+
+    private static final int HASHES = 5;
+    private static final int MIN_BITS = 1 << 13;
+
+    private final AtomicLongArray bits;
+    private final int mask;
+    private final int capacity;
+    private final AtomicInteger size = new AtomicInteger();
+
+    ConcurrentBloomFilter(int expected) {
+        int bitCount = Integer.highestOneBit(Math.max(MIN_BITS, expected * 20 - 1));
+        this.bits = new AtomicLongArray(bitCount / 64);
+        this.mask = bitCount - 1;
+        this.capacity = Math.max(expected, bitCount / 20);
+    }
+
+    void add(String value) {
+        long hash = hash(value);
+        for (int i = 0; i < HASHES; i++) {
+            int bit = index(hash, i);
+            int word = bit >>> 6;
+            long flag = 1L << (bit & 63);
+            long current;
+            do {
+                current = bits.get(word);
+            } while ((current & flag) == 0 && !bits.compareAndSet(word, current, current | flag));
+        }
+        size.incrementAndGet();
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash(value);
+        for (int i = 0; i < HASHES; i++) {
+            int bit = index(hash, i);
+            if ((bits.get(bit >>> 6) & (1L << (bit & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    boolean isOverfilled() {
+        return size.get() > capacity;
+    }
+
+    // Double hashing over the two halves of one 64-bit FNV-1a hash
+    private int index(long hash, int i) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return (h1 + i * h2) & mask;
+    }
+
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
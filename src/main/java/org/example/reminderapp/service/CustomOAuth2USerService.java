@@ -2,44 +2,75 @@ package org.example.reminderapp.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.example.reminderapp.entity.User;
+import org.example.reminderapp.config.CustomOAuth2User;
 import org.example.reminderapp.entity.enums.Role;
-import org.example.reminderapp.repository.UserRepository;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 
-import java.time.OffsetDateTime;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CustomOAuth2USerService extends DefaultOAuth2UserService {
 
-    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final UserIdentityIndex userIdentityIndex;
+    private final UserCacheEvictor userCacheEvictor;
 
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
-        OAuth2User oAuth2User = super.loadUser(userRequest);
+        return upsert(super.loadUser(userRequest));
+    }
 
+    // One statement finds or creates the account by email; concurrent first logins meet in ON CONFLICT instead of
+    // inserting twice. The no-op update makes RETURNING yield the existing row as well.
+    public CustomOAuth2User upsert(OAuth2User oAuth2User) {
         String email = oAuth2User.getAttribute("email");
+        if (email == null) {
+            throw new OAuth2AuthenticationException(new OAuth2Error("invalid_user_info"), "Provider returned no email");
+        }
         String firstname = oAuth2User.getAttribute("given_name");
+        if (firstname == null) {
+            firstname = oAuth2User.getAttribute("name");
+        }
         String lastname = oAuth2User.getAttribute("family_name");
 
-        User user = userRepository.findByEmail(email).orElseGet(() -> {
-            User newUser = new User();
-            newUser.setEmail(email);
-            newUser.setFirstname(firstname);
-            newUser.setLastname(lastname);
-            newUser.setRole(Role.USER);
-            newUser.setCreatedAt(OffsetDateTime.now());
-            return userRepository.save(newUser);
-        });
+        Object[] account;
+        try {
+            account = jdbcTemplate.queryForObject(
+                    "INSERT INTO users (username, email, password_hash, firstname, lastname, role, created_at) " +
+                    "VALUES (left(?, 50), ?, '', ?, ?, 'USER', ?) " +
+                    "ON CONFLICT (email) DO UPDATE SET email = EXCLUDED.email " +
+                    "RETURNING id, username, role, (xmax = 0) AS inserted",
+                    (rs, rowNum) -> new Object[]{rs.getLong("id"), rs.getString("username"), rs.getString("role"),
+                            rs.getBoolean("inserted")},
+                    email, email, firstname, lastname, LocalDateTime.now(ZoneOffset.UTC));
+        } catch (DataAccessException e) {
+            // The username derived from the email can collide with a registered one
+            log.error("OAuth2 account upsert failed for {}", email, e);
+            throw new OAuth2AuthenticationException(new OAuth2Error("account_conflict"),
+                    "Cannot create an account for " + email);
+        }
+
+        Long id = (Long) account[0];
+        String username = (String) account[1];
+        if ((Boolean) account[3]) {
+            userIdentityIndex.add(username, email);
+            // Drops cached "no such email" query results
+            userCacheEvictor.evict(id);
+            log.info("OAuth2 user created: {}", email);
+        }
 
         log.info("OAuth2 user loaded: {}", email);
-        return oAuth2User;
+        return new CustomOAuth2User(oAuth2User, id, username, Role.valueOf((String) account[2]));
     }
 }
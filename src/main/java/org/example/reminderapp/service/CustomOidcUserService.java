@@ -0,0 +1,35 @@
+package org.example.reminderapp.service;
+
+import org.example.reminderapp.config.CustomOidcUser;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.oauth2.client.oidc.userinfo.OidcUserRequest;
+import org.springframework.security.oauth2.client.oidc.userinfo.OidcUserService;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.oidc.user.OidcUser;
+import org.springframework.stereotype.Service;
+
+// Runs the account upsert inside the OIDC login, so its failures reach the login failure handler like the OAuth2 path
+@Service
+public class CustomOidcUserService implements OAuth2UserService<OidcUserRequest, OidcUser> {
+
+    private final CustomOAuth2USerService customOAuth2UserService;
+    private final OAuth2UserService<OidcUserRequest, OidcUser> delegate;
+
+    @Autowired
+    public CustomOidcUserService(CustomOAuth2USerService customOAuth2UserService) {
+        this(customOAuth2UserService, new OidcUserService());
+    }
+
+    CustomOidcUserService(CustomOAuth2USerService customOAuth2UserService,
+                          OAuth2UserService<OidcUserRequest, OidcUser> delegate) {
+        this.customOAuth2UserService = customOAuth2UserService;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public OidcUser loadUser(OidcUserRequest userRequest) throws OAuth2AuthenticationException {
+        OidcUser oidcUser = delegate.loadUser(userRequest);
+        return new CustomOidcUser(oidcUser, customOAuth2UserService.upsert(oidcUser));
+    }
+}
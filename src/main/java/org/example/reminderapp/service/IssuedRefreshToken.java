@@ -0,0 +1,14 @@
+package org.example.reminderapp.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// A freshly issued refresh token; the raw value exists only here and in the response, never in the database
+
+@Getter
+@RequiredArgsConstructor
+public class IssuedRefreshToken {
+
+    private final Long userId;
+    private final String value;
+}
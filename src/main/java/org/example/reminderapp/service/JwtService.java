@@ -1,27 +1,58 @@
 package org.example.reminderapp.service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import org.example.reminderapp.config.CustomUserDetails;
+import org.example.reminderapp.entity.enums.Role;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    public static final String USER_ID_CLAIM = "userId";
+    public static final String ROLE_CLAIM = "role";
 
-    @Value("${jwt.expiration:86400000}")
-    private long jwtExpiratio;
+    private final long jwtExpiratio;
+
+    // Derived once: the key and the parser are immutable and thread-safe
+    private final Key signingKey;
+    private final JwtParser parser;
+
+    public JwtService(@Value("${jwt.secret}") String secretKey,
+                      @Value("${jwt.expiration:900000}") long jwtExpiratio) {
+        this.jwtExpiratio = jwtExpiratio;
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
+    // The one signature check per request; throws JwtException for a forged, malformed or expired token
+    public VerifiedToken verify(String token) {
+        Claims claims = extractAllClaims(token);
+        return new VerifiedToken(
+                claims.getId(),
+                claims.getSubject(),
+                claims.getExpiration().toInstant(),
+                claims.get(USER_ID_CLAIM, Long.class),
+                claims.get(ROLE_CLAIM, String.class),
+                Collections.unmodifiableMap(new LinkedHashMap<>(claims)));
+    }
 
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
@@ -33,47 +64,47 @@ public class JwtService {
     }
 
     public String generateToken(UserDetails userDetails) {
+        if (userDetails instanceof CustomUserDetails custom) {
+            return generateToken(identityClaims(custom.getId(), custom.getRole()), custom.getUsername());
+        }
         return generateToken(new HashMap<>(), userDetails.getUsername());
     }
 
     public String generateToken(org.example.reminderapp.entity.User user) {
-        return generateToken(new HashMap<>(), user.getUsername());
+        return generateToken(user.getId(), user.getUsername(), user.getRole());
+    }
+
+    public String generateToken(Long userId, String username, Role role) {
+        return generateToken(identityClaims(userId, role), username);
+    }
+
+    // Enough to rebuild the principal from the token alone
+    private Map<String, Object> identityClaims(Long userId, Role role) {
+        Map<String, Object> claims = new HashMap<>();
+        if (userId != null && role != null) {
+            claims.put(USER_ID_CLAIM, userId);
+            claims.put(ROLE_CLAIM, role.name());
+        }
+        return claims;
     }
 
     private String generateToken(Map<String, Object> extraClaims, String username) {
         return Jwts.builder()
                 .setClaims(extraClaims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(username)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpiratio))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
+    // Expiry is already enforced while parsing
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
-
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return verify(token).getSubject().equals(userDetails.getUsername());
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    private Key getSigningKey() {
-        byte[] keyBytes = secretKey.getBytes(java.nio.charset.StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return parser.parseClaimsJws(token).getBody();
     }
 }
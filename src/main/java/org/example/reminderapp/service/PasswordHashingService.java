@@ -0,0 +1,54 @@
+package org.example.reminderapp.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+// Runs credential hashing and verification on the bounded password-hashing pool.
+// Submitting to a saturated pool throws RejectedExecutionException right away, which is answered with 503.
+// The returned futures complete on the auth completion pool, so whatever the caller chains on them
+// (saving the user, issuing tokens) never runs on a hashing thread.
+@Service
+public class PasswordHashingService {
+
+    private final Executor executor;
+    private final Executor completionExecutor;
+    private final PasswordEncoder passwordEncoder;
+    private final AuthenticationManager authenticationManager;
+    private final Timer encodeTimer;
+    private final Timer verifyTimer;
+
+    public PasswordHashingService(@Qualifier("passwordHashingExecutor") Executor executor,
+                                  @Qualifier("authCompletionExecutor") Executor completionExecutor,
+                                  PasswordEncoder passwordEncoder,
+                                  AuthenticationManager authenticationManager,
+                                  MeterRegistry meterRegistry) {
+        this.executor = executor;
+        this.completionExecutor = completionExecutor;
+        this.passwordEncoder = passwordEncoder;
+        this.authenticationManager = authenticationManager;
+        this.encodeTimer = Timer.builder("auth.hashing.duration").tag("operation", "encode").register(meterRegistry);
+        this.verifyTimer = Timer.builder("auth.hashing.duration").tag("operation", "verify").register(meterRegistry);
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return CompletableFuture.supplyAsync(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)),
+                executor).thenApplyAsync(Function.identity(), completionExecutor);
+    }
+
+    // Full authentication: user lookup plus password check; fails with the usual AuthenticationException
+    public CompletableFuture<Authentication> authenticate(String username, String password) {
+        return CompletableFuture.supplyAsync(() -> verifyTimer.record(() -> authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken(username, password))), executor)
+                .thenApplyAsync(Function.identity(), completionExecutor);
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.reminderapp.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+// Opaque, single-use refresh tokens. Only their SHA-256 is stored; every refresh retires the presented token
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${jwt.refresh.expiration:30d}")
+    private Duration expiration;
+
+    // Starts a new family, one per login
+    @Transactional
+    public IssuedRefreshToken issue(Long userId) {
+        return issue(userId, UUID.randomUUID().toString());
+    }
+
+    // Exchanges a live token for a new one in the same family. Presenting an already used token means it leaked,
+    // so the whole family is revoked and the legitimate holder has to log in again.
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public IssuedRefreshToken rotate(String refreshToken) {
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        String hash = hash(refreshToken);
+
+        List<Object[]> retired = jdbcTemplate.query(
+                "UPDATE refresh_tokens SET revoked_at = ? " +
+                "WHERE token_hash = ? AND revoked_at IS NULL AND expires_at > ? " +
+                "RETURNING user_id, family_id",
+                (rs, rowNum) -> new Object[]{rs.getLong("user_id"), rs.getString("family_id")},
+                now, hash, now);
+        if (!retired.isEmpty()) {
+            return issue((Long) retired.get(0)[0], (String) retired.get(0)[1]);
+        }
+
+        List<String> families = jdbcTemplate.queryForList(
+                "SELECT family_id FROM refresh_tokens WHERE token_hash = ? AND revoked_at IS NOT NULL",
+                String.class, hash);
+        if (!families.isEmpty()) {
+            revokeFamily(families.get(0), now);
+            log.warn("Reused refresh token, family {} revoked", families.get(0));
+        }
+        throw new BadCredentialsException("Invalid refresh token");
+    }
+
+    // Logout: the token and everything rotated from it stop working
+    @Transactional
+    public void revoke(String refreshToken) {
+        List<String> families = jdbcTemplate.queryForList(
+                "SELECT family_id FROM refresh_tokens WHERE token_hash = ?", String.class, hash(refreshToken));
+        if (!families.isEmpty()) {
+            revokeFamily(families.get(0), LocalDateTime.now(ZoneOffset.UTC));
+        }
+    }
+
+    // Account deletion: no family of the user can mint access tokens any more
+    public int revokeUser(Long userId) {
+        return jdbcTemplate.update("UPDATE refresh_tokens SET revoked_at = ? WHERE user_id = ? AND revoked_at IS NULL",
+                LocalDateTime.now(ZoneOffset.UTC), userId);
+    }
+
+    public int purgeExpired() {
+        return jdbcTemplate.update("DELETE FROM refresh_tokens WHERE expires_at <= ?", LocalDateTime.now(ZoneOffset.UTC));
+    }
+
+    private IssuedRefreshToken issue(Long userId, String familyId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String value = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        jdbcTemplate.update("INSERT INTO refresh_tokens (user_id, token_hash, family_id, expires_at) VALUES (?, ?, ?, ?)",
+                userId, hash(value), familyId, LocalDateTime.now(ZoneOffset.UTC).plus(expiration));
+        return new IssuedRefreshToken(userId, value);
+    }
+
+    private void revokeFamily(String familyId, LocalDateTime now) {
+        jdbcTemplate.update("UPDATE refresh_tokens SET revoked_at = ? WHERE family_id = ? AND revoked_at IS NULL",
+                now, familyId);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.reminderapp.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.reminderapp.entity.enums.Status;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReminderArchiveService {
+
+    private static final String FINISHED_STATUSES = Arrays.stream(Status.values())
+            .filter(Status::isFinished)
+            .map(status -> "'" + status.name() + "'")
+            .collect(Collectors.joining(", "));
+
+    // Moves one batch in a single statement; SKIP LOCKED keeps us out of the dispatcher's way
+    private static final String ARCHIVE_BATCH_SQL =
+            "WITH moved AS ( " +
+            "    DELETE FROM reminders r " +
+            "    USING (SELECT id, remind_at FROM reminders " +
+            "           WHERE status IN (" + FINISHED_STATUSES + ") AND remind_at < ? " +
+            "           ORDER BY remind_at " +
+            "           LIMIT ? " +
+            "           FOR UPDATE SKIP LOCKED) batch " +
+            "    WHERE r.id = batch.id AND r.remind_at = batch.remind_at " +
+            "    RETURNING r.id, r.title, r.description, r.remind_at, r.type, r.status, r.user_id, r.content_hash " +
+            "), " +
+            "unindexed AS ( " +
+            "    DELETE FROM reminder_search_terms t USING moved " +
+            "    WHERE t.user_id = moved.user_id AND t.reminder_id = moved.id " +
+            ") " +
+            "INSERT INTO reminders_archive (id, title, description, remind_at, type, status, user_id, content_hash) " +
+            "SELECT id, title, description, remind_at, type, status, user_id, content_hash FROM moved";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${reminder.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${reminder.archive.min-age:30d}")
+    private Duration minAge;
+
+    @Value("${reminder.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${reminder.archive.max-batches:100}")
+    private int maxBatches;
+
+    @Value("${reminder.archive.throttle:200ms}")
+    private Duration throttle;
+
+    // Not @Transactional: every batch commits on its own to keep transactions and lock time small
+    public int archiveFinishedReminders() {
+        if (!enabled) {
+            return 0;
+        }
+
+        // remind_at is stored as UTC without zone
+        LocalDateTime cutoff = LocalDateTime.now(ZoneOffset.UTC).minus(minAge);
+        log.info("Archiving finished reminders older than {}", cutoff);
+
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer moved = transactionTemplate.execute(status ->
+                    jdbcTemplate.update(ARCHIVE_BATCH_SQL, cutoff, batchSize));
+            int count = moved != null ? moved : 0;
+            total += count;
+
+            if (count < batchSize) {
+                break;
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+
+        log.info("Archived {} finished reminders", total);
+        return total;
+    }
+
+    private boolean pause() {
+        if (throttle.isZero() || throttle.isNegative()) {
+            return true;
+        }
+        try {
+            Thread.sleep(throttle.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Reminder archiving interrupted");
+            return false;
+        }
+    }
+}
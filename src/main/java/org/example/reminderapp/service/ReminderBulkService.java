@@ -0,0 +1,162 @@
+package org.example.reminderapp.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.reminderapp.dto.request.ReminderBulkUpdateItemDto;
+import org.example.reminderapp.dto.request.ReminderCreateDto;
+import org.example.reminderapp.dto.response.ReminderBulkItemResultDto;
+import org.example.reminderapp.dto.response.ReminderBulkItemResultDto.Outcome;
+import org.example.reminderapp.dto.response.ReminderBulkResponseDto;
+import org.example.reminderapp.entity.Reminder;
+import org.example.reminderapp.entity.User;
+import org.example.reminderapp.entity.enums.Status;
+import org.example.reminderapp.mapper.ReminderMapperDto;
+import org.example.reminderapp.repository.ReminderRepository;
+import org.example.reminderapp.repository.UserRepository;
+import org.example.reminderapp.service.search.ReminderSearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReminderBulkService {
+
+    private final UserRepository userRepository;
+    private final ReminderRepository reminderRepository;
+    private final ReminderMapperDto reminderMapperDto;
+    private final ReminderSearchIndex reminderSearchIndex;
+    private final ReminderVersionTracker reminderVersionTracker;
+
+    @Value("${reminder.bulk.max-items:1000}")
+    private int maxItems;
+
+    @Transactional
+    public ReminderBulkResponseDto createReminders(List<ReminderCreateDto> items,
+                                                   Long currentUserId) {
+        checkSize(items.size());
+        log.info("Bulk creating {} reminders for user: {}", items.size(), currentUserId);
+
+        // Proxy only: the principal was already loaded, the FK is all we need
+        User user = userRepository.getReferenceById(currentUserId);
+
+        List<Reminder> reminders = new ArrayList<>(items.size());
+        for (ReminderCreateDto dto : items) {
+            Reminder reminder = reminderMapperDto.toEntity(dto);
+            reminder.setUser(user);
+            reminder.setStatus(Status.PENDING);
+            reminders.add(reminder);
+        }
+
+        // Sequence ids let Hibernate send these as JDBC batches on flush
+        List<Reminder> saved = reminderRepository.saveAll(reminders);
+        reminderSearchIndex.index(saved);
+        reminderVersionTracker.invalidate(currentUserId);
+
+        List<ReminderBulkItemResultDto> results = new ArrayList<>(saved.size());
+        for (int i = 0; i < saved.size(); i++) {
+            results.add(new ReminderBulkItemResultDto(i, saved.get(i).getId(), Outcome.CREATED));
+        }
+
+        log.info("Bulk created {} reminders for user: {}", results.size(), currentUserId);
+        return ReminderBulkResponseDto.of(results);
+    }
+
+    @Transactional
+    public ReminderBulkResponseDto updateReminders(List<ReminderBulkUpdateItemDto> items,
+                                                   Long currentUserId) {
+        checkSize(items.size());
+        log.info("Bulk updating {} reminders for user: {}", items.size(), currentUserId);
+
+        List<Long> ids = items.stream()
+                .map(ReminderBulkUpdateItemDto::getId)
+                .toList();
+
+        Map<Long, Reminder> owned = reminderRepository.findAllByIdInAndUserId(ids, currentUserId).stream()
+                .collect(Collectors.toMap(Reminder::getId, Function.identity()));
+        Set<Long> foreign = findForeignIds(ids, owned.keySet());
+
+        List<ReminderBulkItemResultDto> results = new ArrayList<>(items.size());
+        List<Reminder> updated = new ArrayList<>(owned.size());
+        for (int i = 0; i < items.size(); i++) {
+            ReminderBulkUpdateItemDto item = items.get(i);
+            Reminder reminder = owned.get(item.getId());
+
+            if (reminder != null) {
+                // Flushed on commit as batched UPDATEs
+                reminderMapperDto.updateEntity(item, reminder);
+                updated.add(reminder);
+                results.add(new ReminderBulkItemResultDto(i, item.getId(), Outcome.UPDATED));
+            } else {
+                results.add(new ReminderBulkItemResultDto(i, item.getId(), missingOutcome(item.getId(), foreign)));
+            }
+        }
+
+        reminderSearchIndex.index(updated);
+        reminderVersionTracker.invalidate(currentUserId);
+
+        ReminderBulkResponseDto response = ReminderBulkResponseDto.of(results);
+        log.info("Bulk updated {} of {} reminders for user: {}", response.getSucceeded(), items.size(), currentUserId);
+        return response;
+    }
+
+    @Transactional
+    public ReminderBulkResponseDto deleteReminders(List<Long> ids,
+                                                   Long currentUserId) {
+        checkSize(ids.size());
+        log.info("Bulk deleting {} reminders for user: {}", ids.size(), currentUserId);
+
+        Set<Long> owned = new HashSet<>(reminderRepository.findIdsByIdInAndUserId(ids, currentUserId));
+        if (!owned.isEmpty()) {
+            reminderRepository.deleteAllByIdInAndUserId(owned, currentUserId);
+            reminderSearchIndex.remove(currentUserId, owned);
+            reminderVersionTracker.invalidate(currentUserId);
+        }
+        Set<Long> foreign = findForeignIds(ids, owned);
+
+        List<ReminderBulkItemResultDto> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            Outcome outcome = owned.contains(id) ? Outcome.DELETED : missingOutcome(id, foreign);
+            results.add(new ReminderBulkItemResultDto(i, id, outcome));
+        }
+
+        ReminderBulkResponseDto response = ReminderBulkResponseDto.of(results);
+        log.info("Bulk deleted {} of {} reminders for user: {}", response.getSucceeded(), ids.size(), currentUserId);
+        return response;
+    }
+
+    private Set<Long> findForeignIds(List<Long> ids,
+                                     Set<Long> owned) {
+        Set<Long> missing = new HashSet<>(ids);
+        missing.removeAll(owned);
+        if (missing.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(reminderRepository.findExistingIds(missing));
+    }
+
+    private Outcome missingOutcome(Long id,
+                                   Set<Long> foreign) {
+        if (foreign.contains(id)) {
+            log.warn("Bulk request touched reminder {} owned by another user", id);
+            return Outcome.FORBIDDEN;
+        }
+        return Outcome.NOT_FOUND;
+    }
+
+    private void checkSize(int size) {
+        if (size > maxItems) {
+            throw new IllegalArgumentException("Bulk request exceeds the limit of " + maxItems + " items");
+        }
+    }
+}
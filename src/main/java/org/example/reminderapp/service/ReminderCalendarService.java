@@ -0,0 +1,109 @@
+package org.example.reminderapp.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.reminderapp.dto.response.CalendarDayDto;
+import org.example.reminderapp.dto.response.CalendarReminderDto;
+import org.example.reminderapp.dto.response.CalendarResponseDto;
+import org.example.reminderapp.repository.ReminderCalendarView;
+import org.example.reminderapp.repository.ReminderHistoryRepository;
+import org.example.reminderapp.repository.ReminderRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReminderCalendarService {
+
+    private final ReminderRepository reminderRepository;
+    private final ReminderHistoryRepository reminderHistoryRepository;
+
+    @Value("${reminder.calendar.max-days:62}")
+    private int maxDays;
+
+    @Transactional(readOnly = true)
+    public CalendarResponseDto getCalendar(LocalDate from,
+                                           LocalDate to,
+                                           String tz,
+                                           boolean includeArchived,
+                                           Long currentUserId) {
+        ZoneId zone = parseZone(tz);
+        checkRange(from, to);
+        log.info("Fetching calendar for user: {}, from: {}, to: {}, tz: {}", currentUserId, from, to, zone);
+
+        // Half-open [start of from, start of the day after to) in the caller's zone
+        OffsetDateTime start = from.atStartOfDay(zone).toOffsetDateTime();
+        OffsetDateTime end = to.plusDays(1).atStartOfDay(zone).toOffsetDateTime();
+
+        List<ReminderCalendarView> rows = includeArchived
+                ? reminderHistoryRepository.findCalendar(currentUserId, start, end)
+                : reminderRepository.findCalendar(currentUserId, start, end);
+
+        Map<LocalDate, List<CalendarReminderDto>> byDay = new LinkedHashMap<>();
+        for (ReminderCalendarView row : rows) {
+            ZonedDateTime local = row.getRemindAt().atZoneSameInstant(zone);
+            byDay.computeIfAbsent(local.toLocalDate(), day -> new ArrayList<>())
+                    .add(new CalendarReminderDto(row.getId(), row.getTitle(), local.toLocalTime(),
+                            row.getStatus(), row.getType()));
+        }
+
+        List<CalendarDayDto> days = new ArrayList<>(byDay.size());
+        byDay.forEach((day, reminders) -> days.add(new CalendarDayDto(day, reminders)));
+
+        log.info("Found {} reminders on {} days for user: {}", rows.size(), days.size(), currentUserId);
+        return new CalendarResponseDto(from, to, zone.getId(), rows.size(), days);
+    }
+
+    // Content-derived, so any create, edit, status change or delete in the range changes it
+    public String eTag(CalendarResponseDto calendar) {
+        StringBuilder content = new StringBuilder()
+                .append(calendar.getFrom()).append('|')
+                .append(calendar.getTo()).append('|')
+                .append(calendar.getTz());
+        for (CalendarDayDto day : calendar.getDays()) {
+            content.append('|').append(day.getDate());
+            for (CalendarReminderDto reminder : day.getReminders()) {
+                content.append(';').append(reminder.getId())
+                        .append(',').append(reminder.getTitle())
+                        .append(',').append(reminder.getTime())
+                        .append(',').append(reminder.getStatus())
+                        .append(',').append(reminder.getType());
+            }
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private void checkRange(LocalDate from,
+                            LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Calendar 'to' must not be before 'from'");
+        }
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > maxDays) {
+            throw new IllegalArgumentException("Calendar range is limited to " + maxDays + " days, got " + days);
+        }
+    }
+
+    private static ZoneId parseZone(String tz) {
+        try {
+            return ZoneId.of(tz);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Unknown time zone: " + tz);
+        }
+    }
+}
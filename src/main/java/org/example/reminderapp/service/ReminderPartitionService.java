@@ -0,0 +1,98 @@
+package org.example.reminderapp.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReminderPartitionService {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("reminders_p(\\d{4})_(\\d{2})");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${reminder.partition.premake-months:3}")
+    private int premakeMonths;
+
+    // 0 keeps every partition
+    @Value("${reminder.partition.retention-months:24}")
+    private int retentionMonths;
+
+    // false only detaches, leaving the old month as a standalone table
+    @Value("${reminder.partition.drop-expired:false}")
+    private boolean dropExpired;
+
+    @Transactional
+    public void maintainPartitions() {
+        if (!isPartitioned()) {
+            log.debug("Reminders table is not partitioned, skipping partition maintenance");
+            return;
+        }
+
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        for (int i = 0; i <= premakeMonths; i++) {
+            String partition = jdbcTemplate.queryForObject("SELECT reminders_ensure_partition(?)",
+                    String.class, current.plusMonths(i).atDay(1));
+            log.debug("Ensured reminders partition {}", partition);
+        }
+
+        if (retentionMonths <= 0) {
+            return;
+        }
+
+        YearMonth oldestKept = current.minusMonths(retentionMonths);
+        for (String partition : findPartitions()) {
+            YearMonth month = monthOf(partition);
+            if (month == null || !month.isBefore(oldestKept)) {
+                continue;
+            }
+
+            // The row triggers never see a detach, so tombstones, search terms and counters are settled first
+            Long rows = jdbcTemplate.queryForObject("SELECT reminders_partition_expire(?::regclass)",
+                    Long.class, partition);
+            jdbcTemplate.execute("ALTER TABLE reminders DETACH PARTITION " + partition);
+            if (dropExpired) {
+                jdbcTemplate.execute("DROP TABLE " + partition);
+            }
+            log.info("Expired reminders partition {} with {} reminders ({})", partition, rows,
+                    dropExpired ? "dropped" : "detached");
+        }
+    }
+
+    private boolean isPartitioned() {
+        Boolean partitioned = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table pt " +
+                "JOIN pg_class c ON c.oid = pt.partrelid " +
+                "WHERE c.relname = 'reminders' AND pg_table_is_visible(c.oid))",
+                Boolean.class);
+        return Boolean.TRUE.equals(partitioned);
+    }
+
+    private List<String> findPartitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid " +
+                "JOIN pg_class p ON p.oid = i.inhparent " +
+                "WHERE p.relname = 'reminders' AND pg_table_is_visible(p.oid)",
+                String.class);
+    }
+
+    static YearMonth monthOf(String partition) {
+        Matcher matcher = PARTITION_NAME.matcher(partition);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+    }
+}
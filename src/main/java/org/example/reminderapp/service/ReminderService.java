@@ -10,13 +10,17 @@ import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.reminderapp.entity.Reminder;
+import org.example.reminderapp.entity.ReminderHistory;
 import org.example.reminderapp.entity.User;
 import org.example.reminderapp.entity.enums.Status;
+import org.example.reminderapp.exception.PreconditionFailedException;
 import org.example.reminderapp.exception.ResourceNotFoundException;
 import org.example.reminderapp.mapper.ReminderMapperDto;
+import org.example.reminderapp.repository.ReminderHistoryRepository;
 import org.example.reminderapp.repository.ReminderRepository;
 import org.example.reminderapp.repository.UserRepository;
 import org.example.reminderapp.repository.specification.ReminderSpecification;
+import org.example.reminderapp.service.search.ReminderSearchIndex;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -26,6 +30,11 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -35,6 +44,9 @@ public class ReminderService {
     private final UserRepository userRepository;
     private final ReminderRepository reminderRepository;
     private final ReminderMapperDto reminderMapperDto;
+    private final ReminderHistoryRepository reminderHistoryRepository;
+    private final ReminderSearchIndex reminderSearchIndex;
+    private final ReminderVersionTracker reminderVersionTracker;
 
     @Transactional(readOnly = true)
     public Page<ReminderResponseDto> findAllReminders(ReminderFilterDto filter,
@@ -42,6 +54,14 @@ public class ReminderService {
                                                       Long currentUserId) {
         log.info("Fetching reminders for user: {}, filter: {}, page: {}", filter, pageable,currentUserId);
 
+        if (isHistorical(filter)) {
+            Specification<ReminderHistory> specification = ReminderSpecification.withFilters(filter, currentUserId);
+            Page<ReminderHistory> reminders = reminderHistoryRepository.findAll(specification, pageable);
+
+            log.info("Found {} reminders including archive for user: {}", reminders.getTotalElements(), currentUserId);
+            return reminders.map(reminderMapperDto::toDto);
+        }
+
         Specification<Reminder> specification = ReminderSpecification.withFilters(filter, currentUserId);
         Page<Reminder> reminders = reminderRepository.findAll(specification, pageable);
 
@@ -74,6 +94,8 @@ public class ReminderService {
         reminder.setStatus(Status.PENDING);
 
         Reminder saved = reminderRepository.save(reminder);
+        reminderSearchIndex.index(saved);
+        reminderVersionTracker.invalidate(currentUserId);
         log.info("Reminder created with id: {}", saved.getId());
 
         return reminderMapperDto.toDto(saved);
@@ -82,32 +104,40 @@ public class ReminderService {
     @Transactional
     public ReminderResponseDto updateReminder(Long id,
                                               ReminderUpdateDto dto,
+                                              Set<Long> expectedVersions,
                                               Long currentUserId) {
         log.info("Updating reminder: {} for user: {}, dto: {}", id, currentUserId, dto);
 
-        Reminder reminder = reminderRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Reminder not found with id: " + id));
-
-        checkOwnerShip(reminder,currentUserId);
+        Long expectedVersion = expectedVersion(id, expectedVersions, currentUserId);
+        int updated = reminderRepository.updateByIdAndUserId(id, currentUserId, expectedVersion, dto.getTitle(),
+                dto.getDescription(), dto.getRemindAt(), dto.getType());
+        if (updated == 0) {
+            throw missingOrForeign(id, expectedVersion, currentUserId);
+        }
 
-        reminderMapperDto.updateEntity(dto, reminder);
-        Reminder updated = reminderRepository.save(reminder);
+        Reminder reminder = reminderRepository.findByIdAndUserId(id, currentUserId)
+                .orElseThrow(() -> new ResourceNotFoundException("Reminder not found with id: " + id));
+        reminderSearchIndex.index(reminder);
+        reminderVersionTracker.invalidate(currentUserId);
         log.info("Updated reminder successfully: {}", id);
 
-        return reminderMapperDto.toDto(updated);
+        return reminderMapperDto.toDto(reminder);
     }
 
     @Transactional
     public void deleteReminder(Long id,
+                               Set<Long> expectedVersions,
                                Long currentUserId) {
         log.info("Deleting reminder: {} for user: {}", id, currentUserId);
 
-        Reminder reminder = reminderRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Reminder not found with id: " + id));
-
-        checkOwnerShip(reminder,currentUserId);
+        Long expectedVersion = expectedVersion(id, expectedVersions, currentUserId);
+        int deleted = reminderRepository.deleteByIdAndUserId(id, currentUserId, expectedVersion);
+        if (deleted == 0) {
+            throw missingOrForeign(id, expectedVersion, currentUserId);
+        }
+        reminderSearchIndex.remove(currentUserId, List.of(id));
+        reminderVersionTracker.invalidate(currentUserId);
 
-        reminderRepository.deleteById(id);
         log.info("Deleted reminder successfully: {}", id);
     }
 
@@ -158,10 +188,15 @@ public class ReminderService {
     }
 
     @Transactional(readOnly = true)
-    public Page<ReminderResponseDto> listReminders(int page, int size, Long currentUserId) {
+    public Page<ReminderResponseDto> listReminders(int page, int size, boolean includeArchived, Long currentUserId) {
         log.info("Listing reminders for user: {}, page: {}, size: {}", currentUserId, page, size);
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "remindAt"));
+        if (includeArchived) {
+            return reminderHistoryRepository.findByUserId(currentUserId, pageable)
+                    .map(reminderMapperDto::toDto);
+        }
+
         Page<Reminder> reminders = reminderRepository.findByUserId(currentUserId, pageable);
 
         log.info("Listed {} reminders, total: {}", reminders.getNumberOfElements(), reminders.getTotalElements());
@@ -169,20 +204,38 @@ public class ReminderService {
     }
 
     @Transactional(readOnly = true)
-    public List<ReminderResponseDto> searchReminders(String query, int page, int size, Long currentUserId) {
+    public List<ReminderResponseDto> searchReminders(String query, int page, int size, boolean includeArchived,
+                                                     Long currentUserId) {
         log.info("Searching reminders with query: '{}' for user: {}", query, currentUserId);
 
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Reminder> reminders = reminderRepository.findByUserIdAndTitleContainingOrDescriptionContaining(
-                currentUserId, query, query, pageable
-        );
+        if (includeArchived) {
+            return reminderHistoryRepository.search(currentUserId, query, PageRequest.of(page, size)).stream()
+                    .map(reminderMapperDto::toDto)
+                    .toList();
+        }
 
-        log.info("Found {} reminders matching query '{}'", reminders.getTotalElements(), query);
-        return reminders.stream()
+        List<Long> ranked = reminderSearchIndex.search(currentUserId, query, page, size);
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+
+        // Loaded by owner as well, so a stale index entry can never surface someone else's reminder
+        Map<Long, Reminder> byId = reminderRepository.findAllByIdInAndUserId(ranked, currentUserId).stream()
+                .collect(Collectors.toMap(Reminder::getId, Function.identity()));
+
+        log.info("Found {} reminders matching query '{}'", byId.size(), query);
+        return ranked.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
                 .map(reminderMapperDto::toDto)
                 .toList();
     }
 
+    // Archived rows are only worth scanning when the caller asks for finished reminders
+    private boolean isHistorical(ReminderFilterDto filter) {
+        return filter.isIncludeArchived() || (filter.getStatus() != null && filter.getStatus().isFinished());
+    }
+
     private void checkOwnerShip(Reminder reminder,
                                 Long currentUserId) {
         if (!reminder.getUser().getId().equals(currentUserId)) {
@@ -191,4 +244,33 @@ public class ReminderService {
             throw new AccessDeniedException("You can only access your own reminders");
         }
     }
+
+    // The single version the conditional write compares against. With several acceptable versions only the current
+    // one can match; the write still re-checks it, so a change in between ends in 412 as usual.
+    private Long expectedVersion(Long id, Set<Long> expectedVersions, Long currentUserId) {
+        if (expectedVersions == null) {
+            return null;
+        }
+        if (expectedVersions.size() == 1) {
+            return expectedVersions.iterator().next();
+        }
+        return reminderRepository.findVersionByIdAndUserId(id, currentUserId)
+                .filter(expectedVersions::contains)
+                .orElse(expectedVersions.iterator().next());
+    }
+
+    // Called only after an owner-scoped write touched no rows
+    private RuntimeException missingOrForeign(Long id,
+                                              Long expectedVersion,
+                                              Long currentUserId) {
+        if (!reminderRepository.existsById(id)) {
+            return new ResourceNotFoundException("Reminder not found with id: " + id);
+        }
+        if (expectedVersion != null && reminderRepository.existsByIdAndUserId(id, currentUserId)) {
+            log.warn("Stale version {} for reminder {} from user {}", expectedVersion, id, currentUserId);
+            return new PreconditionFailedException("Reminder " + id + " was modified since version " + expectedVersion);
+        }
+        log.warn("User {} attempted to modify reminder {} owned by another user", currentUserId, id);
+        return new AccessDeniedException("You can only access your own reminders");
+    }
 }
@@ -0,0 +1,91 @@
+package org.example.reminderapp.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.reminderapp.dto.response.ReminderStatsResponseDto;
+import org.example.reminderapp.entity.enums.ReminderType;
+import org.example.reminderapp.entity.enums.Status;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Counters live in reminder_stats and are kept current by triggers on reminders and reminders_archive
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReminderStatsService {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${reminder.stats.reconcile-batch-size:500}")
+    private int reconcileBatchSize;
+
+    @Transactional(readOnly = true)
+    public ReminderStatsResponseDto getStats(Long currentUserId) {
+        log.info("Fetching reminder stats for user: {}", currentUserId);
+
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        LocalDate endOfWeek = today.with(DayOfWeek.SUNDAY);
+
+        Map<Status, Long> byStatus = new EnumMap<>(Status.class);
+        Map<ReminderType, Long> byType = new EnumMap<>(ReminderType.class);
+        Map<LocalDate, Long> dueByDay = new TreeMap<>();
+
+        // Primary-key range scan: a handful of rows per user no matter how many reminders they have
+        jdbcTemplate.query("SELECT dimension, bucket, count FROM reminder_stats " +
+                        "WHERE user_id = ? AND count > 0 AND (dimension <> 'day' OR bucket BETWEEN ? AND ?)",
+                rs -> {
+                    String bucket = rs.getString("bucket");
+                    long count = rs.getLong("count");
+                    switch (rs.getString("dimension")) {
+                        case "status" -> byStatus.put(Status.valueOf(bucket), count);
+                        case "type" -> byType.put(ReminderType.valueOf(bucket), count);
+                        case "day" -> dueByDay.put(LocalDate.parse(bucket), count);
+                        default -> log.warn("Unknown reminder stats dimension for bucket {}", bucket);
+                    }
+                },
+                currentUserId, today.toString(), endOfWeek.toString());
+
+        long total = byStatus.values().stream().mapToLong(Long::longValue).sum();
+        long dueToday = dueByDay.getOrDefault(today, 0L);
+        long dueThisWeek = dueByDay.values().stream().mapToLong(Long::longValue).sum();
+
+        return new ReminderStatsResponseDto(total, byStatus, byType, dueToday, dueThisWeek, dueByDay);
+    }
+
+    // Not @Transactional: each user is reconciled in its own short statement
+    public int reconcileAll() {
+        log.info("Reconciling reminder stats");
+
+        int fixed = 0;
+        long lastUserId = 0;
+        while (true) {
+            List<Long> userIds = jdbcTemplate.queryForList(
+                    "SELECT id FROM users WHERE id > ? ORDER BY id LIMIT ?",
+                    Long.class, lastUserId, reconcileBatchSize);
+            for (Long userId : userIds) {
+                Integer rows = jdbcTemplate.queryForObject("SELECT reminder_stats_reconcile(?)", Integer.class, userId);
+                if (rows != null && rows > 0) {
+                    log.warn("Reminder stats for user {} drifted, fixed {} counters", userId, rows);
+                    fixed += rows;
+                }
+            }
+            if (userIds.size() < reconcileBatchSize) {
+                break;
+            }
+            lastUserId = userIds.get(userIds.size() - 1);
+        }
+
+        log.info("Reminder stats reconciled, {} counters fixed", fixed);
+        return fixed;
+    }
+}
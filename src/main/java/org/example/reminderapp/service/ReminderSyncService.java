@@ -0,0 +1,179 @@
+package org.example.reminderapp.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.reminderapp.dto.response.ReminderChangesResponseDto;
+import org.example.reminderapp.dto.response.ReminderResponseDto;
+import org.example.reminderapp.entity.enums.ReminderType;
+import org.example.reminderapp.entity.enums.Status;
+import org.example.reminderapp.exception.SyncTokenExpiredException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+// Positions come from reminder_change_seq: reminders.change_seq for the last write to a live reminder and
+// reminder_tombstones for deletes and archiving, both maintained by triggers
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReminderSyncService {
+
+    private static final String CHANGED_SQL =
+            "SELECT id, title, description, remind_at, type, status, user_id, version, change_seq FROM reminders " +
+            "WHERE user_id = ? AND change_seq > ? ORDER BY change_seq LIMIT ?";
+
+    private static final String DELETED_SQL =
+            "SELECT reminder_id, change_seq FROM reminder_tombstones " +
+            "WHERE user_id = ? AND change_seq > ? ORDER BY change_seq LIMIT ?";
+
+    private static final String PURGE_BATCH_SQL =
+            "DELETE FROM reminder_tombstones WHERE ctid IN " +
+            "(SELECT ctid FROM reminder_tombstones WHERE deleted_at < ? LIMIT ?)";
+
+    // deleted_at is taken when the deleting transaction starts, so a tombstone can commit a little after a
+    // token that did not see it was issued; tombstones outlive the tokens that might still need them by this much
+    private static final Duration PURGE_GRACE = Duration.ofHours(1);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${reminder.sync.page-size:500}")
+    private int pageSize;
+
+    @Value("${reminder.sync.tombstone-retention:30d}")
+    private Duration tombstoneRetention;
+
+    @Value("${reminder.sync.purge-batch-size:5000}")
+    private int purgeBatchSize;
+
+    // One snapshot for both reads: a delete committed between them could otherwise move the token past an unseen update
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public ReminderChangesResponseDto changesSince(String since, Long currentUserId) {
+        Instant now = Instant.now();
+        SyncToken from = since == null || since.isBlank() ? null : SyncToken.parse(since);
+        if (from != null && from.issuedAt.isBefore(now.minus(tombstoneRetention))) {
+            throw new SyncTokenExpiredException("Sync token is older than " + tombstoneRetention.toDays()
+                    + " days, deletions may be missing; sync again without a token");
+        }
+        long after = from != null ? from.position : 0;
+        log.info("Fetching reminder changes for user: {} after position: {}", currentUserId, after);
+
+        // Each source is read one past the page, so the merged page is exact and hasMore is known
+        List<Change> changes = new ArrayList<>(jdbcTemplate.query(CHANGED_SQL, this::mapChanged,
+                currentUserId, after, pageSize + 1));
+        // A first sync starts from the live set, there is nothing to delete on the client yet
+        if (from != null) {
+            changes.addAll(jdbcTemplate.query(DELETED_SQL,
+                    (rs, rowNum) -> new Change(rs.getLong("change_seq"), null, rs.getLong("reminder_id")),
+                    currentUserId, after, pageSize + 1));
+        }
+        changes.sort(Comparator.comparingLong(change -> change.position));
+
+        boolean hasMore = changes.size() > pageSize;
+        List<ReminderResponseDto> changed = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        long position = after;
+        for (Change change : hasMore ? changes.subList(0, pageSize) : changes) {
+            if (change.reminder != null) {
+                changed.add(change.reminder);
+            } else {
+                deleted.add(change.deletedId);
+            }
+            position = change.position;
+        }
+
+        // Caught up, the client has every tombstone that exists now; mid catch-up the old token's age still applies
+        Instant issuedAt = hasMore && from != null ? from.issuedAt : now;
+        log.info("Found {} changed and {} deleted reminders for user: {}, more: {}",
+                changed.size(), deleted.size(), currentUserId, hasMore);
+        return new ReminderChangesResponseDto(changed, deleted, new SyncToken(position, issuedAt).encode(), hasMore);
+    }
+
+    // Not @Transactional: each batch commits on its own
+    public int purgeTombstones() {
+        LocalDateTime cutoff = LocalDateTime.now(ZoneOffset.UTC).minus(tombstoneRetention).minus(PURGE_GRACE);
+
+        int total = 0;
+        int purged;
+        do {
+            purged = jdbcTemplate.update(PURGE_BATCH_SQL, cutoff, purgeBatchSize);
+            total += purged;
+        } while (purged == purgeBatchSize);
+
+        log.info("Purged {} reminder tombstones older than {}", total, cutoff);
+        return total;
+    }
+
+    private Change mapChanged(ResultSet rs, int rowNum) throws SQLException {
+        ReminderResponseDto reminder = new ReminderResponseDto();
+        reminder.setId(rs.getLong("id"));
+        reminder.setTitle(rs.getString("title"));
+        reminder.setDescription(rs.getString("description"));
+        // remind_at is stored as UTC without zone
+        reminder.setRemindAt(rs.getObject("remind_at", LocalDateTime.class).atOffset(ZoneOffset.UTC));
+        reminder.setType(ReminderType.valueOf(rs.getString("type")));
+        reminder.setStatus(Status.valueOf(rs.getString("status")));
+        reminder.setUserId(rs.getLong("user_id"));
+        reminder.setVersion(rs.getLong("version"));
+        return new Change(rs.getLong("change_seq"), reminder, null);
+    }
+
+    private static final class Change {
+
+        private final long position;
+        private final ReminderResponseDto reminder;
+        private final Long deletedId;
+
+        private Change(long position, ReminderResponseDto reminder, Long deletedId) {
+            this.position = position;
+            this.reminder = reminder;
+            this.deletedId = deletedId;
+        }
+    }
+
+    // Opaque to clients: the last position delivered and when the client was last caught up
+    private static final class SyncToken {
+
+        private final long position;
+        private final Instant issuedAt;
+
+        private SyncToken(long position, Instant issuedAt) {
+            this.position = position;
+            this.issuedAt = issuedAt;
+        }
+
+        private String encode() {
+            String value = position + "." + issuedAt.getEpochSecond();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.US_ASCII));
+        }
+
+        private static SyncToken parse(String token) {
+            try {
+                String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+                int dot = value.indexOf('.');
+                long position = Long.parseLong(value.substring(0, dot));
+                long issuedAt = Long.parseLong(value.substring(dot + 1));
+                if (position < 0) {
+                    throw new IllegalArgumentException("negative position");
+                }
+                return new SyncToken(position, Instant.ofEpochSecond(issuedAt));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeException e) {
+                throw new IllegalArgumentException("Invalid sync token: " + token);
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.reminderapp.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+// Per-user reminder change versions for conditional GETs. reminder_versions is bumped by triggers on every write,
+// wherever it comes from; this keeps the values in memory so a poll costs at most one primary-key lookup per TTL.
+// Writes on another instance, the dispatcher's included, show up once the entry expires: a 304 may be up to one TTL
+// stale. If-Match is unaffected, updates compare against the row's own version.
+@Slf4j
+@Component
+public class ReminderVersionTracker {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadingCache<Long, Long> versions;
+
+    public ReminderVersionTracker(JdbcTemplate jdbcTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${reminder.etag.version-ttl:5s}") Duration versionTtl,
+                                  @Value("${reminder.etag.max-users:100000}") long maxUsers) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(versionTtl)
+                .recordStats()
+                .build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, versions, "reminder.versions");
+    }
+
+    public long currentVersion(Long userId) {
+        return versions.get(userId);
+    }
+
+    // Local writes drop the entry after commit, so the writer's next poll already sees its change.
+    // Dropping it earlier would let a concurrent poll reload the pre-commit version.
+    public void invalidate(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    versions.invalidate(userId);
+                }
+            });
+        } else {
+            versions.invalidate(userId);
+        }
+    }
+
+    // Validator for every list view of the user's reminders, exact within one instance and good to one TTL across them
+    public String listETag(Long userId, long version) {
+        return "\"u" + userId + ":" + version + "\"";
+    }
+
+    // The reminder's own version stays in front, so the tag still works as If-Match. The reminder and its owner
+    // are part of the tag: the user version alone says nothing about which reminder the client has cached.
+    public String itemETag(long reminderVersion, Long reminderId, Long userId, long version) {
+        return "\"" + reminderVersion + ":r" + reminderId + "u" + userId + ":" + version + "\"";
+    }
+
+    // An item tag handed out for this reminder and owner at the current user version is still valid:
+    // nothing of the user's changed since, so the reminder still exists and is still theirs
+    public String matchingItemETag(String ifNoneMatch, Long reminderId, Long userId, long version) {
+        if (ifNoneMatch == null) {
+            return null;
+        }
+        String suffix = ":r" + reminderId + "u" + userId + ":" + version + "\"";
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.length() > suffix.length() + 1 && tag.startsWith("\"") && Character.isDigit(tag.charAt(1))
+                    && tag.endsWith(suffix)) {
+                return tag;
+            }
+        }
+        return null;
+    }
+
+    private long load(Long userId) {
+        List<Long> version = jdbcTemplate.queryForList(
+                "SELECT version FROM reminder_versions WHERE user_id = ?", Long.class, userId);
+        return version.isEmpty() ? 0L : version.get(0);
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.reminderapp.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Revoked access-token ids and accounts. revoked_tokens is the source of truth; every instance keeps an in-memory copy,
+// rebuilt by TokenRevocationSyncJob, so the per-request check never leaves the process.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationList {
+
+    // Whole accounts are revoked under this prefix; a jti is a UUID and can never collide with it
+    private static final String USER_PREFIX = "user:";
+
+    // Stands in for "until the account is gone", when revokeUser shortens it to one token lifetime
+    private static final Duration UNTIL_DELETED = Duration.ofDays(3650);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${jwt.expiration:900000}")
+    private long accessTokenLifetime;
+
+    private volatile Snapshot snapshot = new Snapshot(0);
+
+    // Almost every token is not revoked: the bloom filter answers that without touching the exact map
+    public boolean isRevoked(String jti) {
+        return jti != null && snapshot.contains(jti);
+    }
+
+    public boolean isUserRevoked(Long userId) {
+        return userId != null && snapshot.contains(USER_PREFIX + userId);
+    }
+
+    // Every token of the account is refused until all the ones issued so far have expired
+    public void revokeUser(Long userId) {
+        upsert(USER_PREFIX + userId, Instant.now().plusMillis(accessTokenLifetime));
+        log.info("Revoked access tokens of user {}", userId);
+    }
+
+    // For an account queued for deletion: stays revoked while it still exists, revokeUser ends it once it is gone
+    public void suspendUser(Long userId) {
+        upsert(USER_PREFIX + userId, Instant.now().plus(UNTIL_DELETED));
+        log.info("Suspended access tokens of user {}", userId);
+    }
+
+    public void revoke(String jti, Instant expiresAt) {
+        jdbcTemplate.update("INSERT INTO revoked_tokens (jti, expires_at) VALUES (?, ?) ON CONFLICT (jti) DO NOTHING",
+                jti, LocalDateTime.ofInstant(expiresAt, ZoneOffset.UTC));
+        snapshot.add(jti, expiresAt);
+        log.info("Revoked access token {}", jti);
+    }
+
+    private void upsert(String key, Instant expiresAt) {
+        jdbcTemplate.update("INSERT INTO revoked_tokens (jti, expires_at) VALUES (?, ?) " +
+                        "ON CONFLICT (jti) DO UPDATE SET expires_at = EXCLUDED.expires_at",
+                key, LocalDateTime.ofInstant(expiresAt, ZoneOffset.UTC));
+        snapshot.add(key, expiresAt);
+    }
+
+    // Picks up revocations made on other instances and drops ids whose tokens have expired
+    public int refresh() {
+        Instant now = Instant.now();
+        LocalDateTime utcNow = LocalDateTime.ofInstant(now, ZoneOffset.UTC);
+        jdbcTemplate.update("DELETE FROM revoked_tokens WHERE expires_at <= ?", utcNow);
+
+        Map<String, Instant> revoked = new HashMap<>();
+        jdbcTemplate.query("SELECT jti, expires_at FROM revoked_tokens",
+                rs -> {
+                    Timestamp expiresAt = rs.getTimestamp("expires_at");
+                    revoked.put(rs.getString("jti"), expiresAt.toLocalDateTime().toInstant(ZoneOffset.UTC));
+                });
+        // Revocations made here while the query ran are kept as well
+        snapshot.entries.forEach((jti, expiresAt) -> {
+            if (expiresAt.isAfter(now)) {
+                revoked.putIfAbsent(jti, expiresAt);
+            }
+        });
+
+        Snapshot next = new Snapshot(revoked.size());
+        revoked.forEach(next::add);
+        snapshot = next;
+
+        log.debug("Token revocation list holds {} ids", revoked.size());
+        return revoked.size();
+    }
+
+    // Bloom filter over an exact map, so it stays correct when overfilled
+    private static final class Snapshot {
+
+        private final ConcurrentBloomFilter filter;
+        private final Map<String, Instant> entries = new ConcurrentHashMap<>();
+
+        private Snapshot(int expected) {
+            this.filter = new ConcurrentBloomFilter(expected);
+        }
+
+        private void add(String jti, Instant expiresAt) {
+            entries.put(jti, expiresAt);
+            filter.add(jti);
+        }
+
+        private boolean contains(String jti) {
+            return filter.mightContain(jti) && entries.containsKey(jti);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package org.example.reminderapp.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.reminderapp.dto.response.UserDeletionResponseDto;
+import org.example.reminderapp.entity.enums.DeletionStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+// Deletes accounts without loading them: the user row goes in one statement and ON DELETE CASCADE does the rest
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserDeletionService {
+
+    // Each statement removes at most one batch of a user's rows; the user id is bound as every parameter but the limit
+    private static final List<String> CHUNK_SQL = List.of(
+            "DELETE FROM reminder_search_terms t " +
+            "USING (SELECT term, reminder_id FROM reminder_search_terms WHERE user_id = ? LIMIT ?) batch " +
+            "WHERE t.user_id = ? AND t.term = batch.term AND t.reminder_id = batch.reminder_id",
+            "DELETE FROM reminders r " +
+            "USING (SELECT id, remind_at FROM reminders WHERE user_id = ? LIMIT ?) batch " +
+            "WHERE r.user_id = ? AND r.id = batch.id AND r.remind_at = batch.remind_at",
+            "DELETE FROM reminders_archive a " +
+            "USING (SELECT id FROM reminders_archive WHERE user_id = ? LIMIT ?) batch " +
+            "WHERE a.user_id = ? AND a.id = batch.id");
+
+    // Oldest open request that nobody is working on, or whose worker stopped reporting progress
+    private static final String CLAIM_SQL =
+            "UPDATE user_deletions SET status = 'RUNNING', updated_at = (now() AT TIME ZONE 'UTC') " +
+            "WHERE user_id = (SELECT user_id FROM user_deletions " +
+            "                 WHERE status = 'PENDING' OR (status = 'RUNNING' AND updated_at < ?) " +
+            "                 ORDER BY requested_at " +
+            "                 LIMIT 1 " +
+            "                 FOR UPDATE SKIP LOCKED) " +
+            "RETURNING user_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserCacheEvictor userCacheEvictor;
+    private final TokenRevocationList tokenRevocationList;
+    private final RefreshTokenService refreshTokenService;
+
+    @Value("${reminder.users.deletion.async-threshold:10000}")
+    private long asyncThreshold;
+
+    @Value("${reminder.users.deletion.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${reminder.users.deletion.throttle:50ms}")
+    private Duration throttle;
+
+    @Value("${reminder.users.deletion.lease:5m}")
+    private Duration lease;
+
+    // Empty when the account is already gone, otherwise the id of the queued deletion. The account's tokens stop
+    // working right away, so the deletion id is what lets the client follow the background job.
+    public Optional<UUID> requestDeletion(Long userId) {
+        long reminders = countReminders(userId);
+
+        if (reminders <= asyncThreshold) {
+            transactionTemplate.executeWithoutResult(status -> deleteUserRow(userId));
+            // Stateless requests never load the user, so outstanding tokens have to be refused explicitly
+            tokenRevocationList.revokeUser(userId);
+            log.info("User {} deleted with {} reminders", userId, reminders);
+            return Optional.empty();
+        }
+
+        // Until the purge finishes, no token of the account may write rows behind it
+        tokenRevocationList.suspendUser(userId);
+        refreshTokenService.revokeUser(userId);
+        // A repeated request gets the id of the one already queued
+        UUID deletionId = jdbcTemplate.queryForObject("INSERT INTO user_deletions (user_id) VALUES (?) " +
+                "ON CONFLICT (user_id) DO UPDATE SET user_id = EXCLUDED.user_id RETURNING deletion_id", UUID.class, userId);
+        log.info("User {} has {} reminders, deletion {} queued", userId, reminders, deletionId);
+        return Optional.ofNullable(deletionId);
+    }
+
+    public Optional<UserDeletionResponseDto> getStatus(UUID deletionId) {
+        return jdbcTemplate.query("SELECT user_id, status, deleted_rows, requested_at, finished_at " +
+                        "FROM user_deletions WHERE deletion_id = ?",
+                (rs, rowNum) -> new UserDeletionResponseDto(
+                        rs.getLong("user_id"),
+                        DeletionStatus.valueOf(rs.getString("status")),
+                        rs.getLong("deleted_rows"),
+                        rs.getTimestamp("requested_at").toLocalDateTime(),
+                        Optional.ofNullable(rs.getTimestamp("finished_at")).map(Timestamp::toLocalDateTime).orElse(null)),
+                deletionId).stream().findFirst();
+    }
+
+    // Not @Transactional: every chunk commits on its own, so no transaction ever holds a whole account
+    public int processQueued() {
+        int processed = 0;
+        Long userId;
+        while ((userId = claim()) != null) {
+            if (!purge(userId)) {
+                break;
+            }
+            processed++;
+        }
+        return processed;
+    }
+
+    private Long claim() {
+        LocalDateTime staleBefore = LocalDateTime.now(ZoneOffset.UTC).minus(lease);
+        List<Long> claimed = transactionTemplate.execute(status ->
+                jdbcTemplate.queryForList(CLAIM_SQL, Long.class, staleBefore));
+        return claimed == null || claimed.isEmpty() ? null : claimed.get(0);
+    }
+
+    private boolean purge(Long userId) {
+        log.info("Purging rows of user {}", userId);
+
+        long total = 0;
+        for (String sql : CHUNK_SQL) {
+            int deleted;
+            do {
+                Integer count = transactionTemplate.execute(status -> {
+                    int rows = jdbcTemplate.update(sql, userId, batchSize, userId);
+                    jdbcTemplate.update("UPDATE user_deletions SET deleted_rows = deleted_rows + ?, " +
+                            "updated_at = (now() AT TIME ZONE 'UTC') WHERE user_id = ?", rows, userId);
+                    return rows;
+                });
+                deleted = count != null ? count : 0;
+                total += deleted;
+                if (deleted == batchSize && !pause()) {
+                    return false;
+                }
+            } while (deleted == batchSize);
+        }
+
+        // Whatever was written meanwhile is small and goes with the cascade
+        transactionTemplate.executeWithoutResult(status -> {
+            deleteUserRow(userId);
+            jdbcTemplate.update("UPDATE user_deletions SET status = 'DONE', updated_at = (now() AT TIME ZONE 'UTC'), " +
+                    "finished_at = (now() AT TIME ZONE 'UTC') WHERE user_id = ?", userId);
+        });
+        tokenRevocationList.revokeUser(userId);
+        log.info("User {} deleted, {} rows purged in chunks", userId, total);
+        return true;
+    }
+
+    private void deleteUserRow(Long userId) {
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+        userCacheEvictor.evict(userId);
+    }
+
+    // Live and archived reminders from the maintained counters instead of counting rows
+    private long countReminders(Long userId) {
+        Long count = jdbcTemplate.queryForObject("SELECT COALESCE(SUM(count), 0) FROM reminder_stats " +
+                "WHERE user_id = ? AND dimension = 'status'", Long.class, userId);
+        return count != null ? count : 0;
+    }
+
+    private boolean pause() {
+        if (throttle.isZero() || throttle.isNegative()) {
+            return true;
+        }
+        try {
+            Thread.sleep(throttle.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("User deletion interrupted");
+            return false;
+        }
+    }
+}
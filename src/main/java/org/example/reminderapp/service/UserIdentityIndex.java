@@ -0,0 +1,134 @@
+package org.example.reminderapp.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.reminderapp.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Bloom filters over every username and email, so registration only queries the DB when a value may be taken.
+// A miss is final; a hit is confirmed with a lookup. The unique constraints stay the source of truth for races
+// and for the rare value added while a rebuild is scanning.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserIdentityIndex {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${reminder.users.identity-index.batch-size:10000}")
+    private int batchSize;
+
+    @Value("${reminder.users.identity-index.min-capacity:100000}")
+    private int minCapacity;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    // Until the first build finishes every value "might exist" and is checked in the DB
+    private volatile Filters filters;
+    private volatile Filters building;
+
+    public boolean mightContainUsername(String username) {
+        Filters current = filters;
+        return current == null || current.usernames.mightContain(username);
+    }
+
+    public boolean mightContainEmail(String email) {
+        Filters current = filters;
+        return current == null || current.emails.mightContain(email);
+    }
+
+    public void add(User user) {
+        add(user.getUsername(), user.getEmail());
+    }
+
+    public void add(String username, String email) {
+        add(filters, username, email);
+        add(building, username, email);
+
+        Filters current = filters;
+        if (current != null && current.isOverfilled() && rebuilding.compareAndSet(false, true)) {
+            CompletableFuture.runAsync(this::rebuild);
+        }
+    }
+
+    // Off the startup thread: until it finishes registrations simply check the DB
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (rebuilding.compareAndSet(false, true)) {
+            CompletableFuture.runAsync(this::rebuild);
+        }
+    }
+
+    // Keyset scan of users into fresh filters sized for twice the current count; registrations during the scan
+    // go to both the old and the new filters
+    public void rebuild() {
+        try {
+            Integer count = jdbcTemplate.queryForObject("SELECT count(*) FROM users", Integer.class);
+            Filters next = new Filters(Math.max(minCapacity, 2 * (count == null ? 0 : count)));
+            building = next;
+
+            long lastId = 0;
+            int loaded = 0;
+            while (true) {
+                List<Object[]> rows = jdbcTemplate.query(
+                        "SELECT id, username, email FROM users WHERE id > ? ORDER BY id LIMIT ?",
+                        (rs, rowNum) -> new Object[]{rs.getLong("id"), rs.getString("username"), rs.getString("email")},
+                        lastId, batchSize);
+                for (Object[] row : rows) {
+                    next.add((String) row[1], (String) row[2]);
+                }
+                loaded += rows.size();
+                if (rows.size() < batchSize) {
+                    break;
+                }
+                lastId = (Long) rows.get(rows.size() - 1)[0];
+            }
+
+            filters = next;
+            log.info("User identity index built over {} users", loaded);
+        } catch (RuntimeException e) {
+            log.error("User identity index rebuild failed, registrations check the DB", e);
+        } finally {
+            building = null;
+            rebuilding.set(false);
+        }
+    }
+
+    private static void add(Filters target, String username, String email) {
+        if (target != null) {
+            target.add(username, email);
+        }
+    }
+
+    private static final class Filters {
+
+        private final ConcurrentBloomFilter usernames;
+        private final ConcurrentBloomFilter emails;
+
+        private Filters(int expected) {
+            this.usernames = new ConcurrentBloomFilter(expected);
+            this.emails = new ConcurrentBloomFilter(expected);
+        }
+
+        private void add(String username, String email) {
+            if (username != null) {
+                usernames.add(username);
+            }
+            if (email != null) {
+                emails.add(email);
+            }
+        }
+
+        private boolean isOverfilled() {
+            return usernames.isOverfilled() || emails.isOverfilled();
+        }
+    }
+}
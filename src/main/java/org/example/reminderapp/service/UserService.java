@@ -10,16 +10,24 @@ import org.springframework.security.access.AccessDeniedException;
 import org.example.reminderapp.exception.ResourceNotFoundException;
 import org.example.reminderapp.mapper.UserMapperDto;
 import org.example.reminderapp.repository.specification.UserSpecification;
+import org.example.reminderapp.service.search.UserSearchService;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.example.reminderapp.dto.response.UserDeletionResponseDto;
 import org.example.reminderapp.dto.response.UserProfileResponseDto;
 import org.example.reminderapp.repository.UserRepository;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -28,11 +36,20 @@ public class UserService {
     private final UserRepository userRepository;
     private final UserMapperDto userMapperDto;
     private final PasswordEncoder passwordEncoder;
+    private final UserCacheEvictor userCacheEvictor;
+    private final UserSearchService userSearchService;
+    private final UserIdentityIndex userIdentityIndex;
+    private final UserDeletionService userDeletionService;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Transactional(readOnly = true)
     public Page<UserProfileResponseDto> findAllUser(UserFilterDto filter, Pageable pageable) {
         log.info("Fetching users with filter: {}, page: {}", filter, pageable);
 
+        if (filter.getQuery() != null && !filter.getQuery().isBlank()) {
+            return searchUsers(filter, pageable);
+        }
+
         Specification<User> specification = UserSpecification.withFilters(filter);
         Page<User> users = userRepository.findAll(specification, pageable);
 
@@ -40,6 +57,18 @@ public class UserService {
         return users.map(userMapperDto::toDto);
     }
 
+    // Ranked ids come from the trigram search, the entities themselves mostly from the second-level cache
+    private Page<UserProfileResponseDto> searchUsers(UserFilterDto filter, Pageable pageable) {
+        Page<Long> ranked = userSearchService.search(filter, pageable);
+        List<User> users = userRepository.loadAllById(ranked.getContent());
+
+        log.info("Found {} users", ranked.getTotalElements());
+        return new PageImpl<>(users.stream()
+                .filter(Objects::nonNull)
+                .map(userMapperDto::toDto)
+                .toList(), pageable, ranked.getTotalElements());
+    }
+
     @Transactional(readOnly = true)
     public UserProfileResponseDto findUserById(Long id) {
         log.info("Fetching user with id: {}", id);
@@ -74,13 +103,17 @@ public class UserService {
 
         userMapperDto.updateEntity(userDto, user);
         User updated = userRepository.save(user);
+        userIdentityIndex.add(updated);
+        userCacheEvictor.evict(id);
         log.info("User {} updated successfully", id);
 
         return userMapperDto.toDto(updated);
     }
 
-    @Transactional
-    public void deleteUser(Long id, Long currentUserId) {
+    // Empty when the account is gone, the deletion id when it is large enough to be deleted in the background.
+    // Not @Transactional: the deletion commits in its own transaction, and the token revocations and cache
+    // invalidation that follow must not run before it does.
+    public Optional<UUID> deleteUser(Long id, Long currentUserId) {
         log.info("Deleting user: {} by user: {}", id, currentUserId);
 
         User user = userRepository.findById(id)
@@ -91,7 +124,15 @@ public class UserService {
             throw new AccessDeniedException("You can only delete your own account");
         }
 
-        userRepository.deleteById(id);
-        log.info("User {} deleted successfully", id);
+        Optional<UUID> deletionId = userDeletionService.requestDeletion(id);
+        verifiedTokenCache.invalidateSubject(user.getUsername());
+        log.info(deletionId.isEmpty() ? "User {} deleted successfully" : "User {} scheduled for deletion", id);
+        return deletionId;
+    }
+
+    // Read by deletion id rather than by account: the account's own tokens no longer work at this point
+    public UserDeletionResponseDto getDeletionStatus(UUID deletionId) {
+        return userDeletionService.getStatus(deletionId)
+                .orElseThrow(() -> new ResourceNotFoundException("No deletion found with id: " + deletionId));
     }
 }
@@ -0,0 +1,26 @@
+package org.example.reminderapp.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+
+// Claims of a token whose signature and expiry were already checked; immutable, safe to share across threads
+
+@Getter
+@RequiredArgsConstructor
+public class VerifiedToken {
+
+    // jti, the handle used to revoke this one token
+    private final String id;
+    private final String subject;
+    private final Instant expiresAt;
+    private final Long userId;
+    private final String role;
+    private final Map<String, Object> claims;
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
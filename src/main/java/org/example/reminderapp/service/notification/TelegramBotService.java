@@ -3,6 +3,7 @@ package org.example.reminderapp.service.notification;
 import lombok.extern.slf4j.Slf4j;
 import org.example.reminderapp.entity.User;
 import org.example.reminderapp.repository.UserRepository;
+import org.example.reminderapp.service.UserCacheEvictor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.telegram.telegrambots.bots.TelegramLongPollingBot;
@@ -17,15 +18,18 @@ import java.util.Optional;
 public class TelegramBotService extends TelegramLongPollingBot implements NotificationService {
 
     private final UserRepository userRepository;
+    private final UserCacheEvictor userCacheEvictor;
     private final String botUsername;
 
     public TelegramBotService(
             UserRepository userRepository,
+            UserCacheEvictor userCacheEvictor,
             @Value("${telegram.bot.token}") String botToken,
             @Value("${telegram.bot.name}") String botUsername
     ) {
         super(botToken);
         this.userRepository = userRepository;
+        this.userCacheEvictor = userCacheEvictor;
         this.botUsername = botUsername;
     }
 
@@ -60,6 +64,7 @@ public class TelegramBotService extends TelegramLongPollingBot implements Notifi
             User user = userOpt.get();
             user.setTelegramChatId(chatId);
             userRepository.save(user);
+            userCacheEvictor.evict(user.getId());
             sendTelegramMessage(chatId, "Аккаунт успешно привязан! Теперь сюда будут приходить напоминания.");
             log.info("User {} linked to Telegram Chat ID {}", email, chatId);
         } else {
@@ -0,0 +1,170 @@
+package org.example.reminderapp.service.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.reminderapp.entity.Reminder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+// Rows of reminder_search_terms are written in the caller's transaction, next to the reminder change itself
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReminderSearchIndex {
+
+    private static final String INSERT_TERM =
+            "INSERT INTO reminder_search_terms (user_id, term, reminder_id, weight) VALUES (?, ?, ?, ?)";
+    private static final String DELETE_REMINDER =
+            "DELETE FROM reminder_search_terms WHERE user_id = ? AND reminder_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${reminder.search.max-query-terms:8}")
+    private int maxQueryTerms;
+
+    @Value("${reminder.search.batch-size:500}")
+    private int batchSize;
+
+    @Value("${reminder.search.repair.users-per-run:200}")
+    private int repairUsersPerRun;
+
+    @Value("${reminder.search.repair.recheck-after:30d}")
+    private Duration recheckAfter;
+
+    public void index(Reminder reminder) {
+        index(List.of(reminder));
+    }
+
+    public void index(Collection<Reminder> reminders) {
+        if (reminders.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> deletes = new ArrayList<>(reminders.size());
+        List<Object[]> inserts = new ArrayList<>();
+        for (Reminder reminder : reminders) {
+            Long userId = reminder.getUser().getId();
+            deletes.add(new Object[]{userId, reminder.getId()});
+            ReminderTokenizer.terms(reminder.getTitle(), reminder.getDescription())
+                    .forEach((term, weight) -> inserts.add(new Object[]{userId, term, reminder.getId(), weight}));
+        }
+
+        jdbcTemplate.batchUpdate(DELETE_REMINDER, deletes);
+        insertBatched(inserts);
+    }
+
+    public void remove(Long userId,
+                       Collection<Long> reminderIds) {
+        if (reminderIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE_REMINDER, reminderIds.stream()
+                .map(id -> new Object[]{userId, id})
+                .toList());
+    }
+
+    // Every query term must match some indexed term as a prefix; score sums the best weight per query term
+    public List<Long> search(Long userId,
+                             String query,
+                             int page,
+                             int size) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(ReminderTokenizer.tokenize(query)));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        if (terms.size() > maxQueryTerms) {
+            terms = terms.subList(0, maxQueryTerms);
+        }
+
+        StringBuilder values = new StringBuilder();
+        List<Object> args = new ArrayList<>();
+        for (int i = 0; i < terms.size(); i++) {
+            values.append(i == 0 ? "" : ", ").append("(").append(i).append(", CAST(? AS VARCHAR), CAST(? AS VARCHAR))");
+            args.add(terms.get(i));
+            args.add(ReminderTokenizer.prefixUpperBound(terms.get(i)));
+        }
+        args.add(userId);
+        args.add(terms.size());
+        args.add(size);
+        args.add((long) page * size);
+
+        String sql = "SELECT m.reminder_id, SUM(m.best) AS score " +
+                "FROM (SELECT t.reminder_id, q.idx, MAX(t.weight) AS best " +
+                "      FROM (VALUES " + values + ") AS q(idx, lo, hi) " +
+                "      JOIN reminder_search_terms t " +
+                "        ON t.term >= q.lo COLLATE \"C\" AND t.term < q.hi COLLATE \"C\" " +
+                "      WHERE t.user_id = ? " +
+                "      GROUP BY t.reminder_id, q.idx) m " +
+                "GROUP BY m.reminder_id " +
+                "HAVING COUNT(*) = ? " +
+                "ORDER BY score DESC, m.reminder_id DESC " +
+                "LIMIT ? OFFSET ?";
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> rs.getLong("reminder_id"), args.toArray());
+    }
+
+    // Re-tokenizes one user's live reminders from scratch in a single transaction, dropping any orphaned terms
+    // along the way, and records the user as checked
+    public int rebuild(Long userId) {
+        Integer indexed = transactionTemplate.execute(status -> {
+            jdbcTemplate.update("DELETE FROM reminder_search_terms WHERE user_id = ?", userId);
+            jdbcTemplate.update("INSERT INTO reminder_search_checks (user_id, checked_at) " +
+                    "VALUES (?, (now() AT TIME ZONE 'UTC')) " +
+                    "ON CONFLICT (user_id) DO UPDATE SET checked_at = EXCLUDED.checked_at", userId);
+
+            int[] count = {0};
+            List<Object[]> inserts = new ArrayList<>();
+            jdbcTemplate.query("SELECT id, title, description FROM reminders WHERE user_id = ?", rs -> {
+                long reminderId = rs.getLong("id");
+                Map<String, Integer> terms = ReminderTokenizer.terms(rs.getString("title"), rs.getString("description"));
+                terms.forEach((term, weight) -> inserts.add(new Object[]{userId, term, reminderId, weight}));
+                count[0]++;
+                if (inserts.size() >= batchSize) {
+                    insertBatched(inserts);
+                    inserts.clear();
+                }
+            }, userId);
+            insertBatched(inserts);
+            return count[0];
+        });
+        return indexed != null ? indexed : 0;
+    }
+
+    // Every write path keeps the terms in step, so this only catches up: users never checked come first (those
+    // from before the index existed), then the ones checked longest ago. A bounded number of users per run, and a
+    // user whose reminders yield no terms is still recorded, so it is not rebuilt again until its recheck is due.
+    public int repair() {
+        LocalDateTime recheckBefore = LocalDateTime.now(ZoneOffset.UTC).minus(recheckAfter);
+        List<Long> due = jdbcTemplate.queryForList("SELECT u.id FROM users u " +
+                "LEFT JOIN reminder_search_checks c ON c.user_id = u.id " +
+                "WHERE c.user_id IS NULL OR c.checked_at < ? " +
+                "ORDER BY c.checked_at NULLS FIRST, u.id " +
+                "LIMIT ?", Long.class, recheckBefore, repairUsersPerRun);
+        for (Long userId : due) {
+            int indexed = rebuild(userId);
+            log.debug("Rebuilt search index for user {} over {} reminders", userId, indexed);
+        }
+        if (!due.isEmpty()) {
+            log.info("Rebuilt search index for {} users", due.size());
+        }
+        return due.size();
+    }
+
+    private void insertBatched(List<Object[]> inserts) {
+        for (int from = 0; from < inserts.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(INSERT_TERM, inserts.subList(from, Math.min(inserts.size(), from + batchSize)));
+        }
+    }
+}
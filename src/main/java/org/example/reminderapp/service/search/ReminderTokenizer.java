@@ -0,0 +1,83 @@
+package org.example.reminderapp.service.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Shared by indexing and querying, so both sides always fold text the same way
+public final class ReminderTokenizer {
+
+    static final int MAX_TERM_LENGTH = 64;
+    static final int TITLE_WEIGHT = 3;
+    static final int DESCRIPTION_WEIGHT = 1;
+
+    private ReminderTokenizer() {
+    }
+
+    // Lower-cases, maps ё to е and strips diacritics from non-Cyrillic letters; й, ї, ў stay distinct letters
+    public static String fold(String text) {
+        String lower = text.toLowerCase(Locale.ROOT);
+        StringBuilder folded = new StringBuilder(lower.length());
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (c < 0x80) {
+                folded.append(c);
+            } else if (c == 'ё') {
+                folded.append('е');
+            } else if (Character.UnicodeBlock.of(c) == Character.UnicodeBlock.CYRILLIC) {
+                folded.append(c);
+            } else {
+                String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+                for (int j = 0; j < decomposed.length(); j++) {
+                    char part = decomposed.charAt(j);
+                    if (Character.getType(part) != Character.NON_SPACING_MARK) {
+                        folded.append(part);
+                    }
+                }
+            }
+        }
+        return folded.toString();
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String folded = fold(text);
+        int start = -1;
+        for (int i = 0; i <= folded.length(); i++) {
+            boolean wordChar = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(folded.substring(start, Math.min(i, start + MAX_TERM_LENGTH)));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    // term -> weight; title occurrences count more than description ones
+    public static Map<String, Integer> terms(String title,
+                                             String description) {
+        Map<String, Integer> terms = new LinkedHashMap<>();
+        for (String token : tokenize(title)) {
+            terms.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : tokenize(description)) {
+            terms.merge(token, DESCRIPTION_WEIGHT, Integer::sum);
+        }
+        return terms;
+    }
+
+    // Smallest string greater than every string starting with prefix
+    static String prefixUpperBound(String prefix) {
+        int last = prefix.length() - 1;
+        return prefix.substring(0, last) + (char) (prefix.charAt(last) + 1);
+    }
+}
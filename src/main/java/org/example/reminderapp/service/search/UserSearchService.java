@@ -0,0 +1,101 @@
+package org.example.reminderapp.service.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.reminderapp.dto.request.UserFilterDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+
+// Ranked admin search over the user directory, served by the pg_trgm GIN indexes on lower(column)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserSearchService {
+
+    private static final String[] COLUMNS = {"username", "email", "firstname", "lastname"};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${reminder.search.max-query-terms:8}")
+    private int maxQueryTerms;
+
+    // Every word must be word-similar to some column; score sums each word's best column similarity
+    public Page<Long> search(UserFilterDto filter,
+                             Pageable pageable) {
+        List<String> words = words(filter.getQuery());
+        if (words.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        StringBuilder where = new StringBuilder("WHERE TRUE");
+        StringBuilder score = new StringBuilder();
+        List<Object> whereArgs = new ArrayList<>();
+        List<Object> scoreArgs = new ArrayList<>();
+        for (String word : words) {
+            where.append(" AND (");
+            score.append(score.isEmpty() ? "" : " + ").append("GREATEST(");
+            for (int i = 0; i < COLUMNS.length; i++) {
+                where.append(i == 0 ? "" : " OR ").append("? <% lower(u.").append(COLUMNS[i]).append(")");
+                score.append(i == 0 ? "" : ", ").append("word_similarity(?, lower(u.").append(COLUMNS[i]).append("))");
+                whereArgs.add(word);
+                scoreArgs.add(word);
+            }
+            where.append(")");
+            score.append(")");
+        }
+        appendFilters(filter, where, whereArgs);
+
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users u " + where, Long.class,
+                whereArgs.toArray());
+        if (total == null || total == 0 || pageable.getOffset() >= total) {
+            return new PageImpl<>(List.of(), pageable, total == null ? 0 : total);
+        }
+
+        List<Object> args = new ArrayList<>(scoreArgs);
+        args.addAll(whereArgs);
+        args.add(pageable.getPageSize());
+        args.add(pageable.getOffset());
+        List<Long> ids = jdbcTemplate.query("SELECT u.id, " + score + " AS score FROM users u " + where +
+                        " ORDER BY score DESC, u.id DESC LIMIT ? OFFSET ?",
+                (rs, rowNum) -> rs.getLong("id"), args.toArray());
+
+        log.info("User search '{}' matched {} users", filter.getQuery(), total);
+        return new PageImpl<>(ids, pageable, total);
+    }
+
+    // Same semantics as UserSpecification, so the structured filters narrow a ranked search too
+    private void appendFilters(UserFilterDto filter,
+                               StringBuilder where,
+                               List<Object> args) {
+        String[] values = {filter.getUsername(), filter.getEmail(), filter.getFirstname(), filter.getLastname()};
+        for (int i = 0; i < COLUMNS.length; i++) {
+            if (values[i] != null && !values[i].isBlank()) {
+                where.append(" AND lower(u.").append(COLUMNS[i]).append(") LIKE ?");
+                args.add("%" + values[i].toLowerCase() + "%");
+            }
+        }
+        if (filter.getBirthDate() != null) {
+            where.append(" AND u.birth_date = ?");
+            args.add(filter.getBirthDate());
+        }
+    }
+
+    private List<String> words(String query) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return new LinkedHashSet<>(Arrays.asList(query.trim().toLowerCase(Locale.ROOT).split("\\s+"))).stream()
+                .limit(maxQueryTerms)
+                .toList();
+    }
+}
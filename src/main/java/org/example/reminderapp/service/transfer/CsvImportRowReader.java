@@ -0,0 +1,136 @@
+package org.example.reminderapp.service.transfer;
+
+import org.example.reminderapp.dto.request.ReminderCreateDto;
+import org.example.reminderapp.entity.enums.ReminderType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// RFC 4180 CSV with a header row: title, description, remindAt, type (any order, case-insensitive)
+
+public class CsvImportRowReader implements ImportRowReader {
+
+    private final BufferedReader reader;
+    private Map<String, Integer> columns;
+    private long line = 1;
+
+    public CsvImportRowReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        if (columns == null) {
+            readHeader();
+        }
+
+        List<String> fields;
+        long recordLine;
+        do {
+            recordLine = line;
+            fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isBlank());
+
+        try {
+            ReminderCreateDto dto = new ReminderCreateDto();
+            dto.setTitle(field(fields, "title"));
+            dto.setDescription(field(fields, "description"));
+
+            String remindAt = field(fields, "remindat");
+            dto.setRemindAt(remindAt == null ? null : OffsetDateTime.parse(remindAt));
+
+            String type = field(fields, "type");
+            dto.setType(type == null ? ReminderType.EMAIL : ReminderType.valueOf(type.toUpperCase(Locale.ROOT)));
+            return ImportRow.of(recordLine, dto);
+        } catch (DateTimeParseException e) {
+            return ImportRow.failed(recordLine, "remindAt must be an ISO-8601 date-time with offset");
+        } catch (IllegalArgumentException e) {
+            return ImportRow.failed(recordLine, "Unknown reminder type");
+        }
+    }
+
+    private void readHeader() throws IOException {
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV file is empty");
+        }
+
+        columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            columns.put(name, i);
+        }
+        if (!columns.containsKey("title") || !columns.containsKey("remindat")) {
+            throw new IllegalArgumentException("CSV header must contain title and remindAt columns");
+        }
+    }
+
+    private String field(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean read = false;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            read = true;
+            char ch = (char) c;
+
+            if (quoted) {
+                if (ch == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    if (ch == '\n') {
+                        line++;
+                    }
+                    field.append(ch);
+                }
+            } else if (ch == '"') {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\n') {
+                line++;
+                fields.add(field.toString());
+                return fields;
+            } else if (ch != '\r') {
+                field.append(ch);
+            }
+        }
+
+        if (!read) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
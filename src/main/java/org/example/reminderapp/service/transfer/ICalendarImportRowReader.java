@@ -0,0 +1,204 @@
+package org.example.reminderapp.service.transfer;
+
+import org.example.reminderapp.dto.request.ReminderCreateDto;
+import org.example.reminderapp.entity.enums.ReminderType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// Streams VEVENTs out of an RFC 5545 file; nested components (VALARM, ...) are skipped
+
+public class ICalendarImportRowReader implements ImportRowReader {
+
+    private static final DateTimeFormatter LOCAL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final BufferedReader reader;
+    private String lookahead;
+    private long lookaheadLine;
+    private long contentLineNumber;
+    private long line;
+
+    public ICalendarImportRowReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        String contentLine;
+        while ((contentLine = readContentLine()) != null) {
+            if (contentLine.equalsIgnoreCase("BEGIN:VEVENT")) {
+                return readEvent(contentLineNumber);
+            }
+        }
+        return null;
+    }
+
+    private ImportRow readEvent(long startLine) throws IOException {
+        Map<String, String[]> properties = new HashMap<>();
+        int depth = 0;
+
+        String contentLine;
+        while ((contentLine = readContentLine()) != null) {
+            String upper = contentLine.toUpperCase(Locale.ROOT);
+            if (upper.startsWith("BEGIN:")) {
+                depth++;
+            } else if (upper.startsWith("END:")) {
+                if (depth == 0) {
+                    return toRow(startLine, properties);
+                }
+                depth--;
+            } else if (depth == 0) {
+                String[] property = parseProperty(contentLine);
+                if (property != null) {
+                    properties.putIfAbsent(property[0], property);
+                }
+            }
+        }
+        return ImportRow.failed(startLine, "Unterminated VEVENT");
+    }
+
+    private ImportRow toRow(long startLine, Map<String, String[]> properties) {
+        String[] status = properties.get("STATUS");
+        if (status != null && status[2].equalsIgnoreCase("CANCELLED")) {
+            return ImportRow.failed(startLine, "Event is cancelled");
+        }
+
+        try {
+            ReminderCreateDto dto = new ReminderCreateDto();
+            dto.setTitle(text(properties.get("SUMMARY")));
+            dto.setDescription(text(properties.get("DESCRIPTION")));
+            dto.setRemindAt(dateTime(properties.get("DTSTART")));
+
+            String[] type = properties.get("X-REMINDER-TYPE");
+            dto.setType(type == null ? ReminderType.EMAIL : ReminderType.valueOf(type[2].toUpperCase(Locale.ROOT)));
+            return ImportRow.of(startLine, dto);
+        } catch (DateTimeException e) {
+            return ImportRow.failed(startLine, "DTSTART is not a valid date-time");
+        } catch (IllegalArgumentException e) {
+            return ImportRow.failed(startLine, "Unknown reminder type");
+        }
+    }
+
+    private OffsetDateTime dateTime(String[] property) {
+        if (property == null) {
+            return null;
+        }
+        String params = property[1];
+        String value = property[2];
+
+        ZoneId zone = ZoneOffset.UTC;
+        String tzid = param(params, "TZID");
+        if (tzid != null) {
+            zone = ZoneId.of(tzid);
+        }
+
+        if (value.length() == 8) {
+            return LocalDate.parse(value, DATE).atStartOfDay(zone).toOffsetDateTime();
+        }
+        if (value.endsWith("Z")) {
+            return LocalDateTime.parse(value.substring(0, value.length() - 1), LOCAL_DATE_TIME)
+                    .atOffset(ZoneOffset.UTC);
+        }
+        // Floating times without TZID are taken as UTC
+        return LocalDateTime.parse(value, LOCAL_DATE_TIME).atZone(zone).toOffsetDateTime();
+    }
+
+    private String text(String[] property) {
+        if (property == null || property[2].isBlank()) {
+            return null;
+        }
+        return unescape(property[2]);
+    }
+
+    // Returns {NAME, ;params, value} or null for malformed lines
+    private String[] parseProperty(String contentLine) {
+        boolean quoted = false;
+        for (int i = 0; i < contentLine.length(); i++) {
+            char ch = contentLine.charAt(i);
+            if (ch == '"') {
+                quoted = !quoted;
+            } else if (ch == ':' && !quoted) {
+                String head = contentLine.substring(0, i);
+                int paramsStart = head.indexOf(';');
+                String name = (paramsStart < 0 ? head : head.substring(0, paramsStart)).toUpperCase(Locale.ROOT);
+                String params = paramsStart < 0 ? "" : head.substring(paramsStart);
+                return new String[]{name, params, contentLine.substring(i + 1)};
+            }
+        }
+        return null;
+    }
+
+    private String param(String params, String name) {
+        for (String param : params.split(";")) {
+            int eq = param.indexOf('=');
+            if (eq > 0 && param.substring(0, eq).equalsIgnoreCase(name)) {
+                return param.substring(eq + 1).replace("\"", "");
+            }
+        }
+        return null;
+    }
+
+    static String unescape(String text) {
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (ch == '\\' && i + 1 < text.length()) {
+                char next = text.charAt(++i);
+                result.append(next == 'n' || next == 'N' ? '\n' : next);
+            } else {
+                result.append(ch);
+            }
+        }
+        return result.toString();
+    }
+
+    // Joins folded physical lines (continuations start with a space or tab)
+    private String readContentLine() throws IOException {
+        String current = lookahead;
+        long number = lookaheadLine;
+        if (current == null) {
+            current = nextPhysicalLine();
+            number = line;
+        }
+        lookahead = null;
+        if (current == null) {
+            return null;
+        }
+        contentLineNumber = number;
+
+        StringBuilder unfolded = null;
+        String next;
+        while ((next = nextPhysicalLine()) != null) {
+            if (!next.isEmpty() && (next.charAt(0) == ' ' || next.charAt(0) == '\t')) {
+                if (unfolded == null) {
+                    unfolded = new StringBuilder(current);
+                }
+                unfolded.append(next, 1, next.length());
+            } else {
+                lookahead = next;
+                lookaheadLine = line;
+                break;
+            }
+        }
+        return unfolded == null ? current : unfolded.toString();
+    }
+
+    private String nextPhysicalLine() throws IOException {
+        String physical = reader.readLine();
+        if (physical != null) {
+            line++;
+        }
+        return physical;
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.reminderapp.service.transfer;
+
+import org.example.reminderapp.entity.Reminder;
+import org.example.reminderapp.entity.enums.Status;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+// Minimal RFC 5545 writer: one VEVENT per reminder, no buffering of its own
+
+public class ICalendarWriter {
+
+    static final DateTimeFormatter UTC_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private final Writer writer;
+    private final String dtStamp;
+
+    public ICalendarWriter(Writer writer) {
+        this.writer = writer;
+        this.dtStamp = UTC_DATE_TIME.format(Instant.now());
+    }
+
+    public void begin() throws IOException {
+        line("BEGIN:VCALENDAR");
+        line("VERSION:2.0");
+        line("PRODID:-//ReminderApp//Reminders//RU");
+        line("CALSCALE:GREGORIAN");
+    }
+
+    public void writeEvent(Reminder reminder) throws IOException {
+        line("BEGIN:VEVENT");
+        line("UID:reminder-" + reminder.getId() + "@reminderapp");
+        line("DTSTAMP:" + dtStamp);
+        line("DTSTART:" + UTC_DATE_TIME.format(reminder.getRemindAt()));
+        line("SUMMARY:" + escape(reminder.getTitle()));
+        if (reminder.getDescription() != null) {
+            line("DESCRIPTION:" + escape(reminder.getDescription()));
+        }
+        line("STATUS:" + (reminder.getStatus() == Status.CANCELLED ? "CANCELLED" : "CONFIRMED"));
+        line("X-REMINDER-TYPE:" + reminder.getType());
+        line("X-REMINDER-STATUS:" + reminder.getStatus());
+        line("END:VEVENT");
+    }
+
+    public void end() throws IOException {
+        line("END:VCALENDAR");
+    }
+
+    static String escape(String text) {
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n");
+    }
+
+    // Folds at 75 octets (not chars), so Cyrillic text stays within the limit
+    private void line(String content) throws IOException {
+        int octets = 0;
+        int i = 0;
+        while (i < content.length()) {
+            int codePoint = content.codePointAt(i);
+            int charCount = Character.charCount(codePoint);
+            int size = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+
+            if (octets + size > MAX_LINE_OCTETS) {
+                writer.write("\r\n ");
+                octets = 1;
+            }
+            writer.write(content, i, charCount);
+            octets += size;
+            i += charCount;
+        }
+        writer.write("\r\n");
+    }
+}
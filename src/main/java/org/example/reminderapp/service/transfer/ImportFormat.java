@@ -0,0 +1,22 @@
+package org.example.reminderapp.service.transfer;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ImportFormat {
+    CSV("csv"),
+    ICS("ics");
+
+    private final String extension;
+
+    public static ImportFormat from(String value) {
+        for (ImportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported import format: " + value);
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.reminderapp.service.transfer;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.example.reminderapp.dto.request.ReminderCreateDto;
+
+// One parsed record of an import file: either a reminder or the reason it could not be parsed
+
+@Getter
+@RequiredArgsConstructor
+public class ImportRow {
+
+    private final long line;
+    private final ReminderCreateDto reminder;
+    private final String error;
+
+    public static ImportRow of(long line, ReminderCreateDto reminder) {
+        return new ImportRow(line, reminder, null);
+    }
+
+    public static ImportRow failed(long line, String error) {
+        return new ImportRow(line, null, error);
+    }
+}
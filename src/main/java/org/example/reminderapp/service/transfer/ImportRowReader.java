@@ -0,0 +1,11 @@
+package org.example.reminderapp.service.transfer;
+
+import java.io.IOException;
+
+// Pull-based parser: callers hold at most one record at a time, whatever the file size
+
+public interface ImportRowReader {
+
+    // Returns null once the input is exhausted
+    ImportRow next() throws IOException;
+}
@@ -0,0 +1,80 @@
+package org.example.reminderapp.service.transfer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.reminderapp.dto.response.ReminderResponseDto;
+import org.example.reminderapp.entity.Reminder;
+import org.example.reminderapp.mapper.ReminderMapperDto;
+import org.example.reminderapp.repository.ReminderRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReminderExportService {
+
+    private static final int FLUSH_INTERVAL = ReminderRepository.STREAM_FETCH_SIZE;
+
+    private final ReminderRepository reminderRepository;
+    private final ReminderMapperDto reminderMapperDto;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    // Runs on the async StreamingResponseBody thread; the cursor lives as long as this transaction
+    @Transactional(readOnly = true)
+    public void exportReminders(Long currentUserId,
+                                ExportFormat format,
+                                OutputStream out) throws IOException {
+        log.info("Exporting reminders for user: {}, format: {}", currentUserId, format);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        ObjectWriter jsonWriter = objectMapper.writerFor(ReminderResponseDto.class);
+        ICalendarWriter calendarWriter = new ICalendarWriter(writer);
+
+        long count = 0;
+        try (Stream<Reminder> reminders = reminderRepository.streamAllByUserId(currentUserId)) {
+            if (format == ExportFormat.ICS) {
+                calendarWriter.begin();
+            }
+
+            Iterator<Reminder> iterator = reminders.iterator();
+            while (iterator.hasNext()) {
+                Reminder reminder = iterator.next();
+
+                switch (format) {
+                    case NDJSON -> {
+                        writer.write(jsonWriter.writeValueAsString(reminderMapperDto.toDto(reminder)));
+                        writer.write('\n');
+                    }
+                    case ICS -> calendarWriter.writeEvent(reminder);
+                }
+
+                // Keep the persistence context empty so memory does not grow with the export
+                entityManager.detach(reminder);
+                if (++count % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+
+            if (format == ExportFormat.ICS) {
+                calendarWriter.end();
+            }
+        }
+        writer.flush();
+
+        log.info("Exported {} reminders for user: {}", count, currentUserId);
+    }
+}
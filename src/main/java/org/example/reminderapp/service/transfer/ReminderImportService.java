@@ -0,0 +1,195 @@
+package org.example.reminderapp.service.transfer;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.reminderapp.dto.request.ReminderCreateDto;
+import org.example.reminderapp.dto.response.ReminderImportErrorDto;
+import org.example.reminderapp.dto.response.ReminderImportResponseDto;
+import org.example.reminderapp.entity.Reminder;
+import org.example.reminderapp.entity.User;
+import org.example.reminderapp.entity.enums.Status;
+import org.example.reminderapp.mapper.ReminderMapperDto;
+import org.example.reminderapp.repository.ReminderRepository;
+import org.example.reminderapp.service.ReminderVersionTracker;
+import org.example.reminderapp.service.search.ReminderSearchIndex;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReminderImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final ReminderRepository reminderRepository;
+    private final ReminderMapperDto reminderMapperDto;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ReminderSearchIndex reminderSearchIndex;
+    private final ReminderVersionTracker reminderVersionTracker;
+
+    @Value("${reminder.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${reminder.import.batch-size:100}")
+    private int batchSize;
+
+    // Not @Transactional: each chunk commits on its own so a large file never holds one huge transaction
+    public ReminderImportResponseDto importReminders(Long currentUserId,
+                                                     ImportFormat format,
+                                                     InputStream in) throws IOException {
+        log.info("Importing reminders for user: {}, format: {}", currentUserId, format);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        ImportRowReader rows = switch (format) {
+            case CSV -> new CsvImportRowReader(reader);
+            case ICS -> new ICalendarImportRowReader(reader);
+        };
+
+        Summary summary = new Summary();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+
+        ImportRow row;
+        while ((row = rows.next()) != null) {
+            summary.total++;
+
+            if (row.getError() != null) {
+                summary.fail(row.getLine(), row.getError());
+                continue;
+            }
+
+            Set<ConstraintViolation<ReminderCreateDto>> violations = validator.validate(row.getReminder());
+            if (!violations.isEmpty()) {
+                summary.fail(row.getLine(), violations.iterator().next().getMessage());
+                continue;
+            }
+
+            chunk.add(row);
+            if (chunk.size() >= chunkSize) {
+                insertChunk(currentUserId, chunk, summary);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insertChunk(currentUserId, chunk, summary);
+        }
+        // Chunks have committed by now
+        reminderVersionTracker.invalidate(currentUserId);
+
+        log.info("Imported {} of {} reminders for user: {}, duplicates: {}, failed: {}",
+                summary.imported, summary.total, currentUserId, summary.duplicates, summary.failed);
+        return summary.toDto();
+    }
+
+    // Counts only what committed. A chunk that fails is reported row by row and the import goes on, so the client
+    // always learns what earlier chunks already saved.
+    private void insertChunk(Long currentUserId,
+                             List<ImportRow> chunk,
+                             Summary summary) {
+        ChunkResult result = new ChunkResult();
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(currentUserId, chunk, result));
+        } catch (RuntimeException e) {
+            log.error("Import chunk of {} reminders failed for user: {}", chunk.size(), currentUserId, e);
+            for (ImportRow row : chunk) {
+                summary.fail(row.getLine(), "Reminder could not be saved");
+            }
+            return;
+        }
+        summary.imported += result.imported;
+        summary.duplicates += result.duplicates;
+    }
+
+    private void insert(Long currentUserId,
+                        List<ImportRow> chunk,
+                        ChunkResult result) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+        User user = entityManager.getReference(User.class, currentUserId);
+
+        Map<String, ReminderCreateDto> byHash = new LinkedHashMap<>();
+        for (ImportRow row : chunk) {
+            if (byHash.putIfAbsent(contentHash(row.getReminder()), row.getReminder()) != null) {
+                result.duplicates++;
+            }
+        }
+
+        Set<String> existing = new HashSet<>(reminderRepository.findContentHashes(currentUserId, byHash.keySet()));
+        List<Reminder> persisted = new ArrayList<>(byHash.size());
+        byHash.forEach((hash, dto) -> {
+            if (existing.contains(hash)) {
+                result.duplicates++;
+                return;
+            }
+            Reminder reminder = reminderMapperDto.toEntity(dto);
+            reminder.setUser(user);
+            reminder.setStatus(Status.PENDING);
+            reminder.setContentHash(hash);
+            entityManager.persist(reminder);
+            persisted.add(reminder);
+            result.imported++;
+        });
+
+        reminderSearchIndex.index(persisted);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    static String contentHash(ReminderCreateDto dto) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String content = dto.getTitle() + '\u0000'
+                    + (dto.getDescription() != null ? dto.getDescription() : "") + '\u0000'
+                    + dto.getRemindAt().toInstant() + '\u0000'
+                    + dto.getType();
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static class ChunkResult {
+        private long imported;
+        private long duplicates;
+    }
+
+    private static class Summary {
+        private long total;
+        private long imported;
+        private long duplicates;
+        private long failed;
+        private final List<ReminderImportErrorDto> errors = new ArrayList<>();
+
+        void fail(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ReminderImportErrorDto(line, message));
+            }
+        }
+
+        ReminderImportResponseDto toDto() {
+            return new ReminderImportResponseDto(total, imported, duplicates, failed, errors);
+        }
+    }
+}
@@ -0,0 +1,476 @@
+--liquibase formatted sql
+
+--changeset admin:4
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('users_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 1, false);
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE users ALTER COLUMN id SET DEFAULT nextval('users_seq');
+ALTER SEQUENCE users_seq OWNED BY users.id;
+
+--changeset admin:5
+CREATE SEQUENCE IF NOT EXISTS reminders_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('reminders_seq', COALESCE((SELECT MAX(id) FROM reminders), 0) + 1, false);
+ALTER TABLE reminders ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE reminders ALTER COLUMN id SET DEFAULT nextval('reminders_seq');
+ALTER SEQUENCE reminders_seq OWNED BY reminders.id;
+
+--changeset admin:6
+ALTER TABLE reminders ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+CREATE UNIQUE INDEX IF NOT EXISTS ux_reminders_user_content_hash ON reminders (user_id, content_hash);
+
+--changeset admin:7 splitStatements:false
+-- Creates the monthly partition for p_month, moving any rows that already landed in the default partition
+CREATE OR REPLACE FUNCTION reminders_ensure_partition(p_month DATE) RETURNS TEXT AS
+$$
+DECLARE
+    v_from TIMESTAMP := date_trunc('month', p_month);
+    v_to   TIMESTAMP := date_trunc('month', p_month) + INTERVAL '1 month';
+    v_name TEXT      := 'reminders_p' || to_char(p_month, 'YYYY_MM');
+BEGIN
+    IF to_regclass(v_name) IS NOT NULL THEN
+        RETURN v_name;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE reminders INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', v_name);
+    IF to_regclass('reminders_default') IS NOT NULL THEN
+        EXECUTE format('WITH moved AS (DELETE FROM reminders_default WHERE remind_at >= %L AND remind_at < %L RETURNING *) '
+                           || 'INSERT INTO %I SELECT * FROM moved', v_from, v_to, v_name);
+    END IF;
+    EXECUTE format('ALTER TABLE reminders ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)', v_name, v_from, v_to);
+    RETURN v_name;
+END;
+$$ LANGUAGE plpgsql;
+
+--changeset admin:8 splitStatements:false
+ALTER SEQUENCE reminders_seq OWNED BY NONE;
+ALTER TABLE reminders RENAME TO reminders_unpartitioned;
+ALTER INDEX reminders_pkey RENAME TO reminders_unpartitioned_pkey;
+ALTER INDEX ux_reminders_user_content_hash RENAME TO ux_reminders_unpartitioned_user_content_hash;
+
+CREATE TABLE reminders
+(
+    id              BIGINT        NOT NULL DEFAULT nextval('reminders_seq'),
+    title           VARCHAR(255)  NOT NULL,
+    description     VARCHAR(4096),
+    remind_at       TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    type            VARCHAR(50)   NOT NULL DEFAULT 'EMAIL',
+    status          VARCHAR(32)   NOT NULL DEFAULT 'PENDING',
+    user_id         BIGINT        NOT NULL,
+    content_hash    VARCHAR(64),
+    CONSTRAINT reminders_pkey PRIMARY KEY (id, remind_at),
+    CONSTRAINT fk_reminders_user_id
+        FOREIGN KEY (user_id)
+        REFERENCES users(id)
+        ON DELETE CASCADE
+        ON UPDATE CASCADE
+) PARTITION BY RANGE (remind_at);
+
+CREATE TABLE reminders_default PARTITION OF reminders DEFAULT;
+
+DO
+$$
+DECLARE
+    v_month DATE;
+BEGIN
+    FOR v_month IN
+        SELECT DISTINCT date_trunc('month', remind_at)::DATE FROM reminders_unpartitioned
+        UNION
+        SELECT generate_series(date_trunc('month', now() AT TIME ZONE 'UTC'),
+                               date_trunc('month', now() AT TIME ZONE 'UTC') + INTERVAL '3 months',
+                               INTERVAL '1 month')::DATE
+    LOOP
+        PERFORM reminders_ensure_partition(v_month);
+    END LOOP;
+END
+$$;
+
+INSERT INTO reminders (id, title, description, remind_at, type, status, user_id, content_hash)
+SELECT id, title, description, remind_at, type, status, user_id, content_hash
+FROM reminders_unpartitioned;
+
+DROP TABLE reminders_unpartitioned;
+ALTER SEQUENCE reminders_seq OWNED BY reminders.id;
+
+CREATE INDEX ix_reminders_user_remind_at ON reminders (user_id, remind_at);
+CREATE INDEX ix_reminders_pending_remind_at ON reminders (remind_at) WHERE status = 'PENDING';
+-- The partition key has to be part of every unique index; content_hash already covers remind_at
+CREATE UNIQUE INDEX ux_reminders_user_content_hash ON reminders (user_id, content_hash, remind_at);
+
+--changeset admin:9
+CREATE TABLE IF NOT EXISTS reminders_archive
+(
+    id              BIGINT        PRIMARY KEY,
+    title           VARCHAR(255)  NOT NULL,
+    description     VARCHAR(4096),
+    remind_at       TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    type            VARCHAR(50)   NOT NULL,
+    status          VARCHAR(32)   NOT NULL,
+    user_id         BIGINT        NOT NULL,
+    content_hash    VARCHAR(64),
+    archived_at     TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT (now() AT TIME ZONE 'UTC'),
+    CONSTRAINT fk_reminders_archive_user_id
+        FOREIGN KEY (user_id)
+        REFERENCES users(id)
+        ON DELETE CASCADE
+        ON UPDATE CASCADE
+);
+CREATE INDEX IF NOT EXISTS ix_reminders_archive_user_remind_at ON reminders_archive (user_id, remind_at);
+
+--changeset admin:10
+ALTER TABLE reminders ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+--changeset admin:11 splitStatements:false
+-- Per-user counters over live and archived reminders: one row per (dimension, bucket).
+-- 'status' and 'type' count every reminder, 'day' counts PENDING ones by UTC due date.
+CREATE TABLE IF NOT EXISTS reminder_stats
+(
+    user_id     BIGINT       NOT NULL,
+    dimension   VARCHAR(16)  NOT NULL,
+    bucket      VARCHAR(32)  NOT NULL,
+    count       BIGINT       NOT NULL DEFAULT 0,
+    CONSTRAINT reminder_stats_pkey PRIMARY KEY (user_id, dimension, bucket),
+    CONSTRAINT fk_reminder_stats_user_id
+        FOREIGN KEY (user_id)
+        REFERENCES users(id)
+        ON DELETE CASCADE
+);
+
+CREATE TYPE reminder_stats_delta AS (user_id BIGINT, status VARCHAR(32), type VARCHAR(50), remind_at TIMESTAMP, sign INT);
+
+-- Sorted by key so concurrent writers lock counter rows in the same order
+CREATE OR REPLACE FUNCTION reminder_stats_add(p_delta reminder_stats_delta[]) RETURNS VOID AS
+$$
+INSERT INTO reminder_stats AS s (user_id, dimension, bucket, count)
+SELECT user_id, dimension, bucket, SUM(sign)
+FROM (SELECT user_id, 'status' AS dimension, status AS bucket, sign FROM unnest(p_delta)
+      UNION ALL
+      SELECT user_id, 'type', type, sign FROM unnest(p_delta)
+      UNION ALL
+      SELECT user_id, 'day', to_char(remind_at, 'YYYY-MM-DD'), sign FROM unnest(p_delta)
+      WHERE status = 'PENDING') d
+-- Skips users deleted in this statement: their reminders go by cascade and the counters with them
+WHERE EXISTS (SELECT 1 FROM users u WHERE u.id = d.user_id)
+GROUP BY user_id, dimension, bucket
+HAVING SUM(sign) <> 0
+ORDER BY user_id, dimension, bucket
+ON CONFLICT (user_id, dimension, bucket) DO UPDATE SET count = s.count + EXCLUDED.count;
+$$ LANGUAGE sql;
+
+-- Statement-level with transition tables, so a 1000-row import or archive batch is one grouped upsert
+CREATE OR REPLACE FUNCTION reminder_stats_apply() RETURNS TRIGGER AS
+$$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM reminder_stats_add(ARRAY(
+            SELECT ROW(user_id, status, type, remind_at, 1)::reminder_stats_delta FROM new_rows));
+    ELSIF TG_OP = 'DELETE' THEN
+        PERFORM reminder_stats_add(ARRAY(
+            SELECT ROW(user_id, status, type, remind_at, -1)::reminder_stats_delta FROM old_rows));
+    ELSE
+        PERFORM reminder_stats_add(ARRAY(
+            SELECT ROW(user_id, status, type, remind_at, -1)::reminder_stats_delta FROM old_rows
+            UNION ALL
+            SELECT ROW(user_id, status, type, remind_at, 1)::reminder_stats_delta FROM new_rows));
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER reminder_stats_insert AFTER INSERT ON reminders
+    REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE FUNCTION reminder_stats_apply();
+CREATE TRIGGER reminder_stats_update AFTER UPDATE ON reminders
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE FUNCTION reminder_stats_apply();
+CREATE TRIGGER reminder_stats_delete AFTER DELETE ON reminders
+    REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE FUNCTION reminder_stats_apply();
+CREATE TRIGGER reminder_stats_insert AFTER INSERT ON reminders_archive
+    REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE FUNCTION reminder_stats_apply();
+CREATE TRIGGER reminder_stats_delete AFTER DELETE ON reminders_archive
+    REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE FUNCTION reminder_stats_apply();
+
+-- Recomputes one user's counters; locking their rows first makes concurrent writers wait and apply on top
+CREATE OR REPLACE FUNCTION reminder_stats_reconcile(p_user_id BIGINT) RETURNS INT AS
+$$
+DECLARE
+    v_fixed INT;
+BEGIN
+    PERFORM 1 FROM reminder_stats WHERE user_id = p_user_id FOR UPDATE;
+
+    WITH actual AS (
+        SELECT 'status'::VARCHAR AS dimension, status::VARCHAR AS bucket, COUNT(*) AS count
+        FROM (SELECT status FROM reminders WHERE user_id = p_user_id
+              UNION ALL
+              SELECT status FROM reminders_archive WHERE user_id = p_user_id) r
+        GROUP BY status
+        UNION ALL
+        SELECT 'type', type, COUNT(*)
+        FROM (SELECT type FROM reminders WHERE user_id = p_user_id
+              UNION ALL
+              SELECT type FROM reminders_archive WHERE user_id = p_user_id) r
+        GROUP BY type
+        UNION ALL
+        SELECT 'day', to_char(remind_at, 'YYYY-MM-DD'), COUNT(*)
+        FROM reminders WHERE user_id = p_user_id AND status = 'PENDING'
+        GROUP BY to_char(remind_at, 'YYYY-MM-DD')
+    ),
+    stale AS (
+        DELETE FROM reminder_stats s
+        WHERE s.user_id = p_user_id
+          AND NOT EXISTS (SELECT 1 FROM actual a WHERE a.dimension = s.dimension AND a.bucket = s.bucket)
+        RETURNING 1
+    ),
+    fixed AS (
+        INSERT INTO reminder_stats AS s (user_id, dimension, bucket, count)
+        SELECT p_user_id, dimension, bucket, count FROM actual
+        ON CONFLICT (user_id, dimension, bucket) DO UPDATE SET count = EXCLUDED.count
+        WHERE s.count <> EXCLUDED.count
+        RETURNING 1
+    )
+    SELECT (SELECT COUNT(*) FROM stale) + (SELECT COUNT(*) FROM fixed) INTO v_fixed;
+
+    RETURN v_fixed;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Backfill existing users
+SELECT reminder_stats_reconcile(id) FROM users;
+
+--changeset admin:12
+-- Per-user inverted index for reminder search, written by the application. Terms are already folded,
+-- and the C collation makes a prefix a plain [term, next) range on the primary key.
+CREATE TABLE IF NOT EXISTS reminder_search_terms
+(
+    user_id      BIGINT                    NOT NULL,
+    term         VARCHAR(64) COLLATE "C"   NOT NULL,
+    reminder_id  BIGINT                    NOT NULL,
+    weight       INT                       NOT NULL,
+    CONSTRAINT reminder_search_terms_pkey PRIMARY KEY (user_id, term, reminder_id),
+    CONSTRAINT fk_reminder_search_terms_user_id
+        FOREIGN KEY (user_id)
+        REFERENCES users(id)
+        ON DELETE CASCADE
+);
+CREATE INDEX IF NOT EXISTS ix_reminder_search_terms_reminder ON reminder_search_terms (user_id, reminder_id);
+
+--changeset admin:13
+-- Trigram indexes for the admin user directory: serve the unanchored lower(col) LIKE '%x%' filters
+-- as well as word-similarity ranking for free-text queries
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS ix_users_username_trgm ON users USING gin (lower(username) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS ix_users_email_trgm ON users USING gin (lower(email) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS ix_users_firstname_trgm ON users USING gin (lower(firstname) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS ix_users_lastname_trgm ON users USING gin (lower(lastname) gin_trgm_ops);
+
+--changeset admin:14
+-- Queue of account deletions too large for a single cascading DELETE; no FK, the row outlives the user
+CREATE TABLE IF NOT EXISTS user_deletions
+(
+    user_id       BIGINT       PRIMARY KEY,
+    status        VARCHAR(16)  NOT NULL DEFAULT 'PENDING',
+    deleted_rows  BIGINT       NOT NULL DEFAULT 0,
+    requested_at  TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT (now() AT TIME ZONE 'UTC'),
+    updated_at    TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT (now() AT TIME ZONE 'UTC'),
+    finished_at   TIMESTAMP WITHOUT TIME ZONE
+);
+CREATE INDEX IF NOT EXISTS ix_user_deletions_open ON user_deletions (requested_at) WHERE status <> 'DONE';
+
+--changeset admin:15
+-- Rotating refresh tokens, stored as SHA-256 hashes; one family per login, revoked together on reuse
+CREATE TABLE IF NOT EXISTS refresh_tokens
+(
+    id           BIGINT       PRIMARY KEY GENERATED BY DEFAULT AS IDENTITY,
+    user_id      BIGINT       NOT NULL,
+    token_hash   VARCHAR(64)  NOT NULL UNIQUE,
+    family_id    VARCHAR(36)  NOT NULL,
+    created_at   TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT (now() AT TIME ZONE 'UTC'),
+    expires_at   TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    revoked_at   TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT fk_refresh_tokens_user_id
+        FOREIGN KEY (user_id)
+        REFERENCES users(id)
+        ON DELETE CASCADE
+);
+CREATE INDEX IF NOT EXISTS ix_refresh_tokens_family ON refresh_tokens (family_id);
+CREATE INDEX IF NOT EXISTS ix_refresh_tokens_expires_at ON refresh_tokens (expires_at);
+
+-- Revoked access tokens by jti, kept only until the token would have expired anyway
+CREATE TABLE IF NOT EXISTS revoked_tokens
+(
+    jti         VARCHAR(36)  PRIMARY KEY,
+    expires_at  TIMESTAMP WITHOUT TIME ZONE NOT NULL
+);
+CREATE INDEX IF NOT EXISTS ix_revoked_tokens_expires_at ON revoked_tokens (expires_at);
+
+--changeset admin:16 splitStatements:false
+-- Per-user change version behind the reminder ETags. Any write to a user's live or archived reminders,
+-- including dispatcher status changes and archiving, bumps it from one global sequence, so a version
+-- never repeats across users or restarts. No row yet means version 0.
+CREATE SEQUENCE IF NOT EXISTS reminder_change_seq;
+
+CREATE TABLE IF NOT EXISTS reminder_versions
+(
+    user_id  BIGINT  PRIMARY KEY,
+    version  BIGINT  NOT NULL,
+    CONSTRAINT fk_reminder_versions_user_id
+        FOREIGN KEY (user_id)
+        REFERENCES users(id)
+        ON DELETE CASCADE
+);
+
+-- Statement-level like the stats triggers: a batch costs one upsert per affected user
+CREATE OR REPLACE FUNCTION reminder_versions_bump() RETURNS TRIGGER AS
+$$
+DECLARE
+    v_users BIGINT[];
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        v_users := ARRAY(SELECT user_id FROM new_rows);
+    ELSIF TG_OP = 'DELETE' THEN
+        v_users := ARRAY(SELECT user_id FROM old_rows);
+    ELSE
+        v_users := ARRAY(SELECT user_id FROM old_rows UNION ALL SELECT user_id FROM new_rows);
+    END IF;
+
+    INSERT INTO reminder_versions AS v (user_id, version)
+    SELECT u.user_id, nextval('reminder_change_seq')
+    FROM (SELECT DISTINCT unnest(v_users) AS user_id) u
+    -- Skips users deleted in this statement, as reminder_stats_add does
+    WHERE EXISTS (SELECT 1 FROM users WHERE id = u.user_id)
+    ORDER BY u.user_id
+    ON CONFLICT (user_id) DO UPDATE SET version = EXCLUDED.version;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER reminder_versions_insert AFTER INSERT ON reminders
+    REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE FUNCTION reminder_versions_bump();
+CREATE TRIGGER reminder_versions_update AFTER UPDATE ON reminders
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE FUNCTION reminder_versions_bump();
+CREATE TRIGGER reminder_versions_delete AFTER DELETE ON reminders
+    REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE FUNCTION reminder_versions_bump();
+CREATE TRIGGER reminder_versions_insert AFTER INSERT ON reminders_archive
+    REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT EXECUTE FUNCTION reminder_versions_bump();
+CREATE TRIGGER reminder_versions_delete AFTER DELETE ON reminders_archive
+    REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE FUNCTION reminder_versions_bump();
+
+--changeset admin:17 splitStatements:false
+-- Delta sync: every live reminder carries the position of its last write in reminder_change_seq, deletes leave
+-- a tombstone at a position of their own, and GET /api/reminders/changes reads both past a client's token.
+-- The volatile default stamps existing rows once and is dropped again; the trigger below owns the column.
+ALTER TABLE reminders
+    ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT (now() AT TIME ZONE 'UTC'),
+    ADD COLUMN IF NOT EXISTS change_seq BIGINT NOT NULL DEFAULT nextval('reminder_change_seq');
+ALTER TABLE reminders ALTER COLUMN change_seq DROP DEFAULT;
+CREATE INDEX IF NOT EXISTS ix_reminders_user_change_seq ON reminders (user_id, change_seq);
+
+CREATE TABLE IF NOT EXISTS reminder_tombstones
+(
+    user_id      BIGINT  NOT NULL,
+    change_seq   BIGINT  NOT NULL,
+    reminder_id  BIGINT  NOT NULL,
+    deleted_at   TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT (now() AT TIME ZONE 'UTC'),
+    CONSTRAINT reminder_tombstones_pkey PRIMARY KEY (user_id, change_seq),
+    CONSTRAINT fk_reminder_tombstones_user_id
+        FOREIGN KEY (user_id)
+        REFERENCES users(id)
+        ON DELETE CASCADE
+);
+CREATE INDEX IF NOT EXISTS ix_reminder_tombstones_deleted_at ON reminder_tombstones (deleted_at);
+
+-- Positions are handed out under a per-user transaction lock, so one user's positions commit in order and
+-- a client that has seen position N can never later miss a smaller one
+CREATE OR REPLACE FUNCTION reminder_change_stamp() RETURNS TRIGGER AS
+$$
+BEGIN
+    PERFORM pg_advisory_xact_lock(NEW.user_id);
+    NEW.change_seq := nextval('reminder_change_seq');
+    NEW.updated_at := now() AT TIME ZONE 'UTC';
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER reminder_change_stamp BEFORE INSERT OR UPDATE ON reminders
+    FOR EACH ROW EXECUTE FUNCTION reminder_change_stamp();
+
+-- Statement-level on the parent only, so partition maintenance moving rows out of reminders_default is not
+-- a delete. Archiving is: the reminder leaves the live set clients sync.
+CREATE OR REPLACE FUNCTION reminder_tombstones_add() RETURNS TRIGGER AS
+$$
+BEGIN
+    PERFORM pg_advisory_xact_lock(u.user_id)
+    FROM (SELECT DISTINCT user_id FROM old_rows ORDER BY user_id) u;
+
+    INSERT INTO reminder_tombstones (user_id, change_seq, reminder_id)
+    SELECT o.user_id, nextval('reminder_change_seq'), o.id
+    FROM old_rows o
+    -- Nobody syncs an account that is going away
+    WHERE EXISTS (SELECT 1 FROM users WHERE id = o.user_id)
+      AND NOT EXISTS (SELECT 1 FROM user_deletions d WHERE d.user_id = o.user_id AND d.status <> 'DONE');
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER reminder_tombstones_delete AFTER DELETE ON reminders
+    REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT EXECUTE FUNCTION reminder_tombstones_add();
+
+--changeset admin:18
+-- The dispatcher claims reminders as PROCESSING and re-takes claims that were abandoned mid-send
+CREATE INDEX IF NOT EXISTS ix_reminders_processing_remind_at ON reminders (remind_at) WHERE status = 'PROCESSING';
+
+--changeset admin:19 splitStatements:false
+-- Detaching a partition deletes nothing as far as the triggers on reminders can tell, so retention does their
+-- work first: tombstones for sync, the search terms, the counters and the users' versions. The partition's
+-- rows stay as they are, a detached month can still be inspected or reattached by hand.
+CREATE OR REPLACE FUNCTION reminders_partition_expire(p_partition REGCLASS) RETURNS BIGINT AS
+$$
+DECLARE
+    v_rows BIGINT;
+BEGIN
+    EXECUTE format('SELECT count(*) FROM %s', p_partition) INTO v_rows;
+    IF v_rows = 0 THEN
+        RETURN 0;
+    END IF;
+
+    EXECUTE format('SELECT pg_advisory_xact_lock(u.user_id) ' ||
+                   'FROM (SELECT DISTINCT user_id FROM %s ORDER BY user_id) u', p_partition);
+
+    EXECUTE format('INSERT INTO reminder_tombstones (user_id, change_seq, reminder_id) ' ||
+                   'SELECT o.user_id, nextval(''reminder_change_seq''), o.id FROM %s o ' ||
+                   'WHERE NOT EXISTS (SELECT 1 FROM user_deletions d ' ||
+                   '                  WHERE d.user_id = o.user_id AND d.status <> ''DONE'')', p_partition);
+
+    EXECUTE format('DELETE FROM reminder_search_terms t USING %s o ' ||
+                   'WHERE t.user_id = o.user_id AND t.reminder_id = o.id', p_partition);
+
+    EXECUTE format('SELECT reminder_stats_add(ARRAY(' ||
+                   'SELECT ROW(user_id, status, type, remind_at, -1)::reminder_stats_delta FROM %s))', p_partition);
+
+    EXECUTE format('INSERT INTO reminder_versions AS v (user_id, version) ' ||
+                   'SELECT u.user_id, nextval(''reminder_change_seq'') ' ||
+                   'FROM (SELECT DISTINCT user_id FROM %s ORDER BY user_id) u ' ||
+                   'ON CONFLICT (user_id) DO UPDATE SET version = EXCLUDED.version', p_partition);
+    RETURN v_rows;
+END;
+$$ LANGUAGE plpgsql;
+
+--changeset admin:20
+-- The status of a queued deletion is read by this id: the account's own tokens are revoked once it is queued
+ALTER TABLE user_deletions ADD COLUMN IF NOT EXISTS deletion_id UUID NOT NULL DEFAULT gen_random_uuid();
+CREATE UNIQUE INDEX IF NOT EXISTS ux_user_deletions_deletion_id ON user_deletions (deletion_id);
+
+--changeset admin:21
+-- Import dedup looks up content hashes in the archive as well
+CREATE INDEX IF NOT EXISTS ix_reminders_archive_user_content_hash ON reminders_archive (user_id, content_hash);
+
+--changeset admin:22
+-- When each user's search terms were last rebuilt; the nightly repair walks users by this instead of scanning
+-- every reminder and term
+CREATE TABLE IF NOT EXISTS reminder_search_checks
+(
+    user_id     BIGINT  PRIMARY KEY,
+    checked_at  TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT fk_reminder_search_checks_user_id
+        FOREIGN KEY (user_id)
+        REFERENCES users(id)
+        ON DELETE CASCADE
+);
+CREATE INDEX IF NOT EXISTS ix_reminder_search_checks_checked_at ON reminder_search_checks (checked_at);
@@ -0,0 +1,147 @@
+package org.example.reminderapp.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.reminderapp.entity.User;
+import org.example.reminderapp.entity.enums.Role;
+import org.example.reminderapp.service.JwtService;
+import org.example.reminderapp.service.TokenRevocationList;
+import org.example.reminderapp.service.VerifiedTokenCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
+    private JwtService jwtService;
+    private JwtAuthenticationFilter filter;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(
+                "thisIsAVeryLongSecretKeyThatIsDefinitelyMoreThanSixtyFourBytesLongToSatisfyHsFiveTwelveSecurityRequirementsAndItShouldWorkNowForSure1234567890",
+                86400000L);
+
+        filter = new JwtAuthenticationFilter(
+                new VerifiedTokenCache(jwtService, new SimpleMeterRegistry(), true, 100, Duration.ofMinutes(10)),
+                tokenRevocationList,
+                userDetailsService);
+        ReflectionTestUtils.setField(filter, "stateless", true);
+        ReflectionTestUtils.setField(filter, "verifyPaths", List.of("/api/users/**"));
+
+        testUser = new User();
+        testUser.setId(7L);
+        testUser.setUsername("testuser");
+        testUser.setPassword("hash");
+        testUser.setRole(Role.USER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private Authentication authenticate(String path, String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Test
+    void statelessPrincipalComesFromClaims() throws Exception {
+        Authentication authentication = authenticate("/api/reminders", jwtService.generateToken(testUser));
+
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        assertThat(principal.getId()).isEqualTo(7L);
+        assertThat(principal.getUsername()).isEqualTo("testuser");
+        assertThat(principal.getPassword()).isNull();
+        assertThat(principal.getAuthorities()).extracting(Object::toString).containsExactly("Role_USER");
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void sensitivePathLoadsUser() throws Exception {
+        when(userDetailsService.loadUserByUsername("testuser")).thenReturn(new CustomUserDetails(testUser));
+
+        Authentication authentication = authenticate("/api/users/7", jwtService.generateToken(testUser));
+
+        assertThat(((CustomUserDetails) authentication.getPrincipal()).getPassword()).isEqualTo("hash");
+        verify(userDetailsService).loadUserByUsername("testuser");
+    }
+
+    @Test
+    void tokenWithoutIdentityClaimsLoadsUser() throws Exception {
+        testUser.setId(null);
+        String legacyToken = jwtService.generateToken(testUser);
+        testUser.setId(7L);
+        when(userDetailsService.loadUserByUsername("testuser")).thenReturn(new CustomUserDetails(testUser));
+
+        Authentication authentication = authenticate("/api/reminders", legacyToken);
+
+        assertThat(((CustomUserDetails) authentication.getPrincipal()).getId()).isEqualTo(7L);
+        verify(userDetailsService).loadUserByUsername("testuser");
+    }
+
+    @Test
+    void expiredTokenStaysAnonymousAndContinuesChain() throws Exception {
+        JwtService expiring = new JwtService(
+                "thisIsAVeryLongSecretKeyThatIsDefinitelyMoreThanSixtyFourBytesLongToSatisfyHsFiveTwelveSecurityRequirementsAndItShouldWorkNowForSure1234567890",
+                -60000L);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/reminders");
+        request.addHeader("Authorization", "Bearer " + expiring.generateToken(testUser));
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verifyNoInteractions(userDetailsService, tokenRevocationList);
+    }
+
+    @Test
+    void malformedTokenStaysAnonymous() throws Exception {
+        assertThat(authenticate("/api/reminders", "not.a.jwt")).isNull();
+        verifyNoInteractions(userDetailsService, tokenRevocationList);
+    }
+
+    @Test
+    void tokenOfDeletedUserStaysAnonymous() throws Exception {
+        when(tokenRevocationList.isUserRevoked(7L)).thenReturn(true);
+
+        assertThat(authenticate("/api/reminders", jwtService.generateToken(testUser))).isNull();
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void revokedTokenStaysAnonymous() throws Exception {
+        String token = jwtService.generateToken(testUser);
+        when(tokenRevocationList.isRevoked(jwtService.verify(token).getId())).thenReturn(true);
+
+        assertThat(authenticate("/api/reminders", token)).isNull();
+        verifyNoInteractions(userDetailsService);
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.reminderapp.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.reminderapp.entity.User;
+import org.example.reminderapp.entity.enums.Role;
+import org.example.reminderapp.service.JwtService;
+import org.example.reminderapp.service.VerifiedTokenCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private JwtService jwtService;
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(
+                "thisIsAVeryLongSecretKeyThatIsDefinitelyMoreThanSixtyFourBytesLongToSatisfyHsFiveTwelveSecurityRequirementsAndItShouldWorkNowForSure1234567890",
+                86400000L);
+        meterRegistry = new SimpleMeterRegistry();
+
+        RateLimitProperties.Route login = new RateLimitProperties.Route();
+        login.setPattern("/api/auth/login");
+        login.setMethods(List.of("POST"));
+        login.setPerIp(2);
+
+        RateLimitProperties.Route writes = new RateLimitProperties.Route();
+        writes.setPattern("/api/reminders/**");
+        writes.setMethods(List.of("POST", "PUT", "PATCH", "DELETE"));
+        writes.setPerIp(100);
+        writes.setPerUser(1);
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRoutes(List.of(login, writes));
+
+        filter = new RateLimitFilter(properties,
+                new VerifiedTokenCache(jwtService, meterRegistry, true, 100, Duration.ofMinutes(10)),
+                meterRegistry);
+    }
+
+    private MockHttpServletResponse send(String method, String path, String ip, String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr(ip);
+        if (token != null) {
+            request.addHeader("Authorization", "Bearer " + token);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private String tokenFor(String username) {
+        User user = new User();
+        user.setId(1L);
+        user.setUsername(username);
+        user.setRole(Role.USER);
+        return jwtService.generateToken(user);
+    }
+
+    @Test
+    void loginIsLimitedPerIp() throws Exception {
+        assertThat(send("POST", "/api/auth/login", "10.0.0.1", null).getStatus()).isEqualTo(200);
+        assertThat(send("POST", "/api/auth/login", "10.0.0.1", null).getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse rejected = send("POST", "/api/auth/login", "10.0.0.1", null);
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("60");
+        assertThat(send("POST", "/api/auth/login", "10.0.0.2", null).getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("http.rate-limit.rejected").tag("key", "ip").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void writesAreLimitedPerUserAcrossAddresses() throws Exception {
+        String alice = tokenFor("alice");
+
+        assertThat(send("POST", "/api/reminders/reminder/create", "10.0.0.1", alice).getStatus()).isEqualTo(200);
+        assertThat(send("PUT", "/api/reminders/5", "10.0.0.2", alice).getStatus()).isEqualTo(429);
+        assertThat(send("POST", "/api/reminders/reminder/create", "10.0.0.1", tokenFor("bob")).getStatus())
+                .isEqualTo(200);
+    }
+
+    @Test
+    void unmatchedRoutesAndInvalidTokensAreNotLimitedPerUser() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertThat(send("GET", "/api/reminders", "10.0.0.1", null).getStatus()).isEqualTo(200);
+            assertThat(send("POST", "/api/reminders/reminder/create", "10.0.0.1", "garbage").getStatus())
+                    .isEqualTo(200);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.reminderapp.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SlidingWindowRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(60_000);
+    private final SlidingWindowRateLimiter limiter =
+            new SlidingWindowRateLimiter(Duration.ofMinutes(1), Duration.ofMinutes(5), 4, now::get);
+
+    @Test
+    void rejectsOverLimitWithinWindow() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("a", 3)).isTrue();
+        }
+        assertThat(limiter.tryAcquire("a", 3)).isFalse();
+        assertThat(limiter.tryAcquire("b", 3)).isTrue();
+    }
+
+    @Test
+    void previousWindowIsWeightedByOverlap() {
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire("a", 10);
+        }
+
+        // A quarter into the next window three quarters of the previous count still applies: 7.5 of 10
+        now.addAndGet(75_000);
+        assertThat(limiter.tryAcquire("a", 10)).isTrue();
+        assertThat(limiter.tryAcquire("a", 10)).isTrue();
+        assertThat(limiter.tryAcquire("a", 10)).isTrue();
+        assertThat(limiter.tryAcquire("a", 10)).isFalse();
+
+        // Two windows later nothing is left
+        now.addAndGet(120_000);
+        assertThat(limiter.tryAcquire("a", 1)).isTrue();
+    }
+
+    @Test
+    void idleKeysAreEvicted() {
+        limiter.tryAcquire("a", 1);
+        limiter.tryAcquire("b", 1);
+        assertThat(limiter.size()).isEqualTo(2);
+
+        now.addAndGet(Duration.ofMinutes(6).toMillis());
+        limiter.tryAcquire("a", 1);
+        limiter.tryAcquire("b", 1);
+        limiter.tryAcquire("c", 1);
+        limiter.tryAcquire("d", 1);
+
+        assertThat(limiter.size()).isEqualTo(4);
+        assertThat(limiter.tryAcquire("a", 1)).isFalse();
+    }
+}
@@ -6,6 +6,7 @@ import org.example.reminderapp.dto.request.UserCreateDto;
 import org.example.reminderapp.entity.User;
 import org.example.reminderapp.entity.enums.Role;
 import org.example.reminderapp.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,18 +16,20 @@ import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
-@Transactional
 class AuthControllerTest {
 
     @Autowired
@@ -41,11 +44,24 @@ class AuthControllerTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    // register and login finish on the password-hashing pool, so test data has to be committed, not rolled back
     @BeforeEach
     void setUp() {
         userRepository.deleteAll();
     }
 
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    private ResultActions performAsync(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult result = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
     @Test
     void registerSuccess() throws Exception {
         UserCreateDto createDto = new UserCreateDto();
@@ -56,7 +72,7 @@ class AuthControllerTest {
         createDto.setLastname("User");
         createDto.setBirthDate(LocalDate.of(1990, 1, 1));
 
-        mockMvc.perform(post("/api/auth/register")
+        performAsync(post("/api/auth/register")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(createDto)))
                 .andExpect(status().isOk())
@@ -80,7 +96,7 @@ class AuthControllerTest {
         createDto.setFirstname("New");
         createDto.setLastname("User");
 
-        mockMvc.perform(post("/api/auth/register")
+        performAsync(post("/api/auth/register")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(createDto)))
                 .andExpect(status().is4xxClientError());
@@ -100,7 +116,7 @@ class AuthControllerTest {
         loginDto.setUsername("loginuser");
         loginDto.setPassword("password123");
 
-        mockMvc.perform(post("/api/auth/login")
+        performAsync(post("/api/auth/login")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(loginDto)))
                 .andExpect(status().isOk())
@@ -113,7 +129,7 @@ class AuthControllerTest {
         loginDto.setUsername("nonexistent");
         loginDto.setPassword("wrongpassword");
 
-        mockMvc.perform(post("/api/auth/login")
+        performAsync(post("/api/auth/login")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(loginDto)))
                 .andExpect(status().isUnauthorized());
@@ -149,6 +149,32 @@ class ReminderControllerTest {
                 .andExpect(jsonPath("$.title").value("Updated Title"));
     }
 
+    @Test
+    void updateReminderWithWeakIfMatchFails() throws Exception {
+        ReminderUpdateDto updateDto = new ReminderUpdateDto();
+        updateDto.setTitle("Updated Title");
+
+        mockMvc.perform(put("/api/reminders/" + testReminder.getId())
+                        .header("Authorization", "Bearer " + token)
+                        .header("If-Match", "W/\"" + testReminder.getVersion() + "\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDto)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void updateReminderMatchesAnyListedIfMatchTag() throws Exception {
+        ReminderUpdateDto updateDto = new ReminderUpdateDto();
+        updateDto.setTitle("Updated Title");
+
+        mockMvc.perform(put("/api/reminders/" + testReminder.getId())
+                        .header("Authorization", "Bearer " + token)
+                        .header("If-Match", "\"" + (testReminder.getVersion() + 5) + "\", \"" + testReminder.getVersion() + "\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDto)))
+                .andExpect(status().isOk());
+    }
+
     @Test
     void deleteReminderSuccess() throws Exception {
         mockMvc.perform(delete("/api/reminders/" + testReminder.getId())
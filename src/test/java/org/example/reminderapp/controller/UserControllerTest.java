@@ -7,6 +7,7 @@ import org.example.reminderapp.entity.User;
 import org.example.reminderapp.entity.enums.Role;
 import org.example.reminderapp.repository.UserRepository;
 import org.example.reminderapp.service.JwtService;
+import org.example.reminderapp.service.UserDeletionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,10 +16,14 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.startsWith;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -44,6 +49,9 @@ class UserControllerTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private UserDeletionService userDeletionService;
+
     private User testUser;
     private User anotherUser;
     private String token;
@@ -151,6 +159,37 @@ class UserControllerTest {
                 .andExpect(status().isNoContent());
     }
 
+    @Test
+    void queuedDeletionStatusIsReadableAfterAccepted() throws Exception {
+        // Every account counts as large, so the deletion is queued instead of done in place
+        ReflectionTestUtils.setField(userDeletionService, "asyncThreshold", -1L);
+        try {
+            String location = mockMvc.perform(delete("/api/users/" + testUser.getId())
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isAccepted())
+                    .andExpect(header().string("Location", startsWith("/api/users/deletions/")))
+                    .andReturn().getResponse().getHeader("Location");
+
+            // The account's token is revoked by now, and the status is still there to poll
+            mockMvc.perform(get(location)
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.userId").value(testUser.getId()))
+                    .andExpect(jsonPath("$.status").value("PENDING"));
+            mockMvc.perform(get("/api/users/profile")
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isUnauthorized());
+        } finally {
+            ReflectionTestUtils.setField(userDeletionService, "asyncThreshold", 10000L);
+        }
+    }
+
+    @Test
+    void unknownDeletionIsNotFound() throws Exception {
+        mockMvc.perform(get("/api/users/deletions/" + UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void deleteUserAccessDenied() throws Exception {
         mockMvc.perform(delete("/api/users/" + anotherUser.getId())
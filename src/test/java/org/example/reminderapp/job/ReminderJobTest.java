@@ -0,0 +1,145 @@
+package org.example.reminderapp.job;
+
+import org.example.reminderapp.entity.Reminder;
+import org.example.reminderapp.entity.User;
+import org.example.reminderapp.entity.enums.ReminderType;
+import org.example.reminderapp.entity.enums.Status;
+import org.example.reminderapp.repository.ReminderRepository;
+import org.example.reminderapp.service.ReminderVersionTracker;
+import org.example.reminderapp.service.notification.EmailNotificationService;
+import org.example.reminderapp.service.notification.TelegramBotService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderJobTest {
+
+    @Mock
+    private ReminderRepository reminderRepository;
+
+    @Mock
+    private EmailNotificationService emailNotificationService;
+
+    @Mock
+    private TelegramBotService telegramBotService;
+
+    @Mock
+    private ReminderVersionTracker reminderVersionTracker;
+
+    @InjectMocks
+    private ReminderJob reminderJob;
+
+    private Reminder reminder;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reminderJob, "dispatchLookback", Duration.ofDays(7));
+        ReflectionTestUtils.setField(reminderJob, "claimTimeout", Duration.ofMinutes(10));
+
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("test@example.com");
+
+        reminder = new Reminder();
+        reminder.setId(1L);
+        reminder.setTitle("Test Reminder");
+        reminder.setUser(user);
+        reminder.setRemindAt(OffsetDateTime.now().minusMinutes(1));
+        reminder.setType(ReminderType.EMAIL);
+        reminder.setStatus(Status.PENDING);
+        reminder.setVersion(4L);
+
+        lenient().when(reminderRepository.findAllByRemindAtBetweenAndStatus(any(), any(), eq(Status.PENDING)))
+                .thenReturn(List.of(reminder));
+        lenient().when(reminderRepository.findAbandonedClaims(any(), any(), eq(Status.PROCESSING), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+    }
+
+    @Test
+    void marksSentOnlyAfterSending() throws Exception {
+        when(reminderRepository.transitionStatus(1L, 4L, Status.PENDING, Status.PROCESSING)).thenReturn(1);
+        when(reminderRepository.transitionStatus(1L, 5L, Status.PROCESSING, Status.SENT)).thenReturn(1);
+
+        reminderJob.execute(null);
+
+        InOrder inOrder = inOrder(reminderRepository, emailNotificationService);
+        inOrder.verify(reminderRepository).transitionStatus(1L, 4L, Status.PENDING, Status.PROCESSING);
+        inOrder.verify(emailNotificationService).sendNotification(eq(reminder.getUser()), eq("Test Reminder"), anyString());
+        inOrder.verify(reminderRepository).transitionStatus(1L, 5L, Status.PROCESSING, Status.SENT);
+        verify(reminderRepository, never()).save(any());
+        verify(reminderVersionTracker, times(2)).invalidate(1L);
+    }
+
+    @Test
+    void skipsReminderEditedConcurrently() throws Exception {
+        when(reminderRepository.transitionStatus(1L, 4L, Status.PENDING, Status.PROCESSING)).thenReturn(0);
+
+        reminderJob.execute(null);
+
+        verifyNoInteractions(emailNotificationService, telegramBotService);
+        verify(reminderRepository, never()).transitionStatus(anyLong(), anyLong(), eq(Status.PROCESSING), any());
+        verifyNoInteractions(reminderVersionTracker);
+    }
+
+    @Test
+    void failedSendMarksClaimedVersionOverdue() throws Exception {
+        when(reminderRepository.transitionStatus(1L, 4L, Status.PENDING, Status.PROCESSING)).thenReturn(1);
+        when(reminderRepository.transitionStatus(1L, 5L, Status.PROCESSING, Status.OVERDUE)).thenReturn(1);
+        doThrow(new RuntimeException("smtp down"))
+                .when(emailNotificationService).sendNotification(any(), anyString(), anyString());
+
+        reminderJob.execute(null);
+
+        verify(reminderRepository).transitionStatus(1L, 5L, Status.PROCESSING, Status.OVERDUE);
+        verify(reminderRepository, never()).transitionStatus(anyLong(), anyLong(), any(), eq(Status.SENT));
+        verify(reminderVersionTracker, times(2)).invalidate(1L);
+    }
+
+    @Test
+    void abandonedClaimIsTakenAgainAndSent() throws Exception {
+        reminder.setStatus(Status.PROCESSING);
+        when(reminderRepository.findAllByRemindAtBetweenAndStatus(any(), any(), eq(Status.PENDING)))
+                .thenReturn(List.of());
+        when(reminderRepository.findAbandonedClaims(any(), any(), eq(Status.PROCESSING), any(LocalDateTime.class)))
+                .thenReturn(List.of(reminder));
+        when(reminderRepository.transitionStatus(1L, 4L, Status.PROCESSING, Status.PROCESSING)).thenReturn(1);
+        when(reminderRepository.transitionStatus(1L, 5L, Status.PROCESSING, Status.SENT)).thenReturn(1);
+
+        reminderJob.execute(null);
+
+        verify(emailNotificationService).sendNotification(eq(reminder.getUser()), eq("Test Reminder"), anyString());
+        verify(reminderRepository).transitionStatus(1L, 5L, Status.PROCESSING, Status.SENT);
+    }
+
+    @Test
+    void remindersOlderThanLookbackAreMarkedOverdue() throws Exception {
+        when(reminderRepository.findAllByRemindAtBetweenAndStatus(any(), any(), eq(Status.PENDING)))
+                .thenReturn(List.of());
+        when(reminderRepository.expireMissed(any(OffsetDateTime.class), eq(Status.PENDING), eq(Status.PROCESSING),
+                any(LocalDateTime.class), eq(Status.OVERDUE))).thenReturn(3);
+
+        reminderJob.execute(null);
+
+        ArgumentCaptor<OffsetDateTime> before = ArgumentCaptor.forClass(OffsetDateTime.class);
+        verify(reminderRepository).expireMissed(before.capture(), eq(Status.PENDING), eq(Status.PROCESSING),
+                any(LocalDateTime.class), eq(Status.OVERDUE));
+        assertThat(before.getValue()).isBefore(OffsetDateTime.now().minusDays(7).plusMinutes(1));
+        verifyNoInteractions(emailNotificationService, telegramBotService);
+    }
+}
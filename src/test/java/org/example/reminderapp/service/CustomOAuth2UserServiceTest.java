@@ -0,0 +1,96 @@
+package org.example.reminderapp.service;
+
+import org.example.reminderapp.config.CustomOAuth2User;
+import org.example.reminderapp.entity.enums.Role;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomOAuth2UserServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private UserIdentityIndex userIdentityIndex;
+
+    @Mock
+    private UserCacheEvictor userCacheEvictor;
+
+    @InjectMocks
+    private CustomOAuth2USerService customOAuth2UserService;
+
+    private OAuth2User googleUser(Map<String, Object> attributes) {
+        return new DefaultOAuth2User(List.of(new SimpleGrantedAuthority("OAUTH2_USER")), attributes, "sub");
+    }
+
+    @SuppressWarnings("unchecked")
+    private void upsertReturns(Object[] row) {
+        when(jdbcTemplate.queryForObject(startsWith("INSERT INTO users"), any(RowMapper.class), eq("ann@example.com"),
+                eq("ann@example.com"), eq("Ann"), eq("Lee"), any(LocalDateTime.class)))
+                .thenReturn(row);
+    }
+
+    @Test
+    void newAccountIsCreatedInOneStatement() {
+        upsertReturns(new Object[]{5L, "ann@example.com", "USER", true});
+
+        CustomOAuth2User user = customOAuth2UserService.upsert(googleUser(Map.of("sub", "g-1",
+                "email", "ann@example.com", "given_name", "Ann", "family_name", "Lee")));
+
+        assertThat(user.getId()).isEqualTo(5L);
+        assertThat(user.getUsername()).isEqualTo("ann@example.com");
+        assertThat(user.getRole()).isEqualTo(Role.USER);
+        assertThat(user.getName()).isEqualTo("g-1");
+        verify(userIdentityIndex).add("ann@example.com", "ann@example.com");
+        verify(userCacheEvictor).evict(5L);
+    }
+
+    @Test
+    void existingAccountIsReturnedWithoutSideEffects() {
+        upsertReturns(new Object[]{3L, "ann", "ADMIN", false});
+
+        CustomOAuth2User user = customOAuth2UserService.upsert(googleUser(Map.of("sub", "g-1",
+                "email", "ann@example.com", "given_name", "Ann", "family_name", "Lee")));
+
+        assertThat(user.getUsername()).isEqualTo("ann");
+        assertThat(user.getRole()).isEqualTo(Role.ADMIN);
+        verifyNoInteractions(userIdentityIndex, userCacheEvictor);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void usernameCollisionFailsAuthentication() {
+        when(jdbcTemplate.queryForObject(startsWith("INSERT INTO users"), any(RowMapper.class), any(), any(), any(),
+                any(), any())).thenThrow(new DuplicateKeyException("users_username_key"));
+
+        assertThatThrownBy(() -> customOAuth2UserService.upsert(googleUser(Map.of("sub", "g-1",
+                "email", "ann@example.com"))))
+                .isInstanceOf(OAuth2AuthenticationException.class);
+    }
+
+    @Test
+    void missingEmailIsRejected() {
+        assertThatThrownBy(() -> customOAuth2UserService.upsert(googleUser(Map.of("sub", "g-1"))))
+                .isInstanceOf(OAuth2AuthenticationException.class);
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
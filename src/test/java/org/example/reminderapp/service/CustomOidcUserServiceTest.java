@@ -0,0 +1,71 @@
+package org.example.reminderapp.service;
+
+import org.example.reminderapp.config.CustomOAuth2User;
+import org.example.reminderapp.entity.enums.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.client.oidc.userinfo.OidcUserRequest;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.oidc.OidcIdToken;
+import org.springframework.security.oauth2.core.oidc.user.DefaultOidcUser;
+import org.springframework.security.oauth2.core.oidc.user.OidcUser;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomOidcUserServiceTest {
+
+    @Mock
+    private CustomOAuth2USerService customOAuth2UserService;
+
+    @Mock
+    private OAuth2UserService<OidcUserRequest, OidcUser> delegate;
+
+    @Mock
+    private OidcUserRequest userRequest;
+
+    private CustomOidcUserService customOidcUserService;
+    private OidcUser googleUser;
+
+    @BeforeEach
+    void setUp() {
+        customOidcUserService = new CustomOidcUserService(customOAuth2UserService, delegate);
+        OidcIdToken idToken = new OidcIdToken("id-token", Instant.now(), Instant.now().plusSeconds(60),
+                Map.of("sub", "g-1", "email", "ann@example.com"));
+        googleUser = new DefaultOidcUser(List.of(), idToken);
+        when(delegate.loadUser(userRequest)).thenReturn(googleUser);
+    }
+
+    @Test
+    void oidcPrincipalCarriesUpsertedAccount() {
+        when(customOAuth2UserService.upsert(googleUser))
+                .thenReturn(new CustomOAuth2User(googleUser, 5L, "ann@example.com", Role.USER));
+
+        OidcUser user = customOidcUserService.loadUser(userRequest);
+
+        assertThat(user).isInstanceOf(CustomOAuth2User.class);
+        assertThat(((CustomOAuth2User) user).getId()).isEqualTo(5L);
+        assertThat(user.getIdToken().getTokenValue()).isEqualTo("id-token");
+        assertThat(user.<String>getAttribute("email")).isEqualTo("ann@example.com");
+    }
+
+    // Thrown from the user service, it ends in the login failure handler instead of a 500 from the success handler
+    @Test
+    void upsertFailureFailsAuthentication() {
+        when(customOAuth2UserService.upsert(googleUser))
+                .thenThrow(new OAuth2AuthenticationException(new OAuth2Error("account_conflict")));
+
+        assertThatThrownBy(() -> customOidcUserService.loadUser(userRequest))
+                .isInstanceOf(OAuth2AuthenticationException.class);
+    }
+}
@@ -1,12 +1,16 @@
 package org.example.reminderapp.service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import org.example.reminderapp.entity.User;
+import org.example.reminderapp.entity.enums.Role;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class JwtServiceTest {
 
@@ -15,12 +19,13 @@ class JwtServiceTest {
 
     @BeforeEach
     void setUp() {
-        jwtService = new JwtService();
-        ReflectionTestUtils.setField(jwtService, "secretKey",
-                "thisIsAVeryLongSecretKeyThatIsDefinitelyMoreThanSixtyFourBytesLongToSatisfyHsFiveTwelveSecurityRequirementsAndItShouldWorkNowForSure1234567890");
-        ReflectionTestUtils.setField(jwtService, "jwtExpiratio", 86400000L);
+        jwtService = new JwtService(
+                "thisIsAVeryLongSecretKeyThatIsDefinitelyMoreThanSixtyFourBytesLongToSatisfyHsFiveTwelveSecurityRequirementsAndItShouldWorkNowForSure1234567890",
+                86400000L);
 
         testUser = new User();
+        testUser.setId(1L);
+        testUser.setRole(Role.USER);
         testUser.setUsername("testuser");
         testUser.setEmail("test@example.com");
     }
@@ -41,6 +46,37 @@ class JwtServiceTest {
         assertThat(username).isEqualTo("testuser");
     }
 
+    @Test
+    void generateTokenEmbedsIdentityClaims() {
+        String token = jwtService.generateToken(testUser);
+
+        Claims claims = jwtService.extractClaim(token, c -> c);
+
+        assertThat(claims.get(JwtService.USER_ID_CLAIM, Long.class)).isEqualTo(1L);
+        assertThat(claims.get(JwtService.ROLE_CLAIM, String.class)).isEqualTo("USER");
+    }
+
+    @Test
+    void verifyReturnsImmutableClaims() {
+        VerifiedToken token = jwtService.verify(jwtService.generateToken(testUser));
+
+        assertThat(token.getSubject()).isEqualTo("testuser");
+        assertThat(token.getUserId()).isEqualTo(1L);
+        assertThat(token.getRole()).isEqualTo("USER");
+        assertThat(token.isExpired(Instant.now())).isFalse();
+        assertThatThrownBy(() -> token.getClaims().put("role", "ADMIN"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void verifyRejectsTamperedToken() {
+        String token = jwtService.generateToken(testUser);
+        String[] parts = token.split("\\.");
+        String forged = parts[0] + "." + parts[1] + "." + new StringBuilder(parts[2]).reverse();
+
+        assertThatThrownBy(() -> jwtService.verify(forged)).isInstanceOf(JwtException.class);
+    }
+
     @Test
     void isTokenValidSuccess() {
         String token = jwtService.generateToken(testUser);
@@ -0,0 +1,122 @@
+package org.example.reminderapp.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PasswordHashingServiceTest {
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    private ThreadPoolExecutor executor;
+    private ThreadPoolExecutor completionExecutor;
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashingService passwordHashingService;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1),
+                new ThreadPoolExecutor.AbortPolicy());
+        completionExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(10),
+                new CustomizableThreadFactory("completion-"));
+        meterRegistry = new SimpleMeterRegistry();
+        passwordHashingService = new PasswordHashingService(executor, completionExecutor, passwordEncoder,
+                authenticationManager, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        completionExecutor.shutdownNow();
+    }
+
+    @Test
+    void encodeRunsOnPoolAndIsTimed() {
+        when(passwordEncoder.encode("secret")).thenReturn("hash");
+
+        assertThat(passwordHashingService.encode("secret").join()).isEqualTo("hash");
+        assertThat(meterRegistry.get("auth.hashing.duration").tag("operation", "encode").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void continuationsRunOffTheHashingPool() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(passwordEncoder.encode("secret")).thenAnswer(invocation -> {
+            release.await();
+            return "hash";
+        });
+
+        CompletableFuture<String> thread = passwordHashingService.encode("secret")
+                .thenApply(hash -> Thread.currentThread().getName());
+        release.countDown();
+
+        assertThat(thread.get(5, TimeUnit.SECONDS)).startsWith("completion-");
+    }
+
+    @Test
+    void authenticateReturnsAuthentication() {
+        Authentication authentication = new UsernamePasswordAuthenticationToken("user", null, List.of());
+        when(authenticationManager.authenticate(any())).thenReturn(authentication);
+
+        assertThat(passwordHashingService.authenticate("user", "secret").join()).isSameAs(authentication);
+        assertThat(meterRegistry.get("auth.hashing.duration").tag("operation", "verify").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void badCredentialsCompleteExceptionally() {
+        when(authenticationManager.authenticate(any())).thenThrow(new BadCredentialsException("Bad credentials"));
+
+        assertThatThrownBy(() -> passwordHashingService.authenticate("user", "wrong").join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(BadCredentialsException.class);
+    }
+
+    @Test
+    void saturatedPoolRejectsImmediately() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> {
+            running.countDown();
+            release.await();
+            return "hash";
+        });
+
+        passwordHashingService.encode("busy");
+        running.await();
+        passwordHashingService.encode("queued");
+
+        assertThatThrownBy(() -> passwordHashingService.encode("rejected"))
+                .isInstanceOf(RejectedExecutionException.class);
+        release.countDown();
+    }
+}
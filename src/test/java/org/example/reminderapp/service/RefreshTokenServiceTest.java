@@ -0,0 +1,88 @@
+package org.example.reminderapp.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(refreshTokenService, "expiration", Duration.ofDays(30));
+    }
+
+    @Test
+    void issueStoresOnlyTheHash() {
+        IssuedRefreshToken issued = refreshTokenService.issue(1L);
+
+        ArgumentCaptor<Object> hash = ArgumentCaptor.forClass(Object.class);
+        verify(jdbcTemplate).update(startsWith("INSERT INTO refresh_tokens"), eq(1L), hash.capture(), anyString(),
+                any(LocalDateTime.class));
+        assertThat(issued.getValue()).hasSize(43);
+        assertThat((String) hash.getValue()).hasSize(64).isNotEqualTo(issued.getValue());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rotateRetiresTokenAndIssuesOneInSameFamily() {
+        when(jdbcTemplate.query(startsWith("UPDATE refresh_tokens"), any(RowMapper.class), any(), anyString(), any()))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, "family"}));
+
+        IssuedRefreshToken rotated = refreshTokenService.rotate("old-token");
+
+        assertThat(rotated.getUserId()).isEqualTo(1L);
+        assertThat(rotated.getValue()).isNotEqualTo("old-token");
+        verify(jdbcTemplate).update(startsWith("INSERT INTO refresh_tokens"), eq(1L), anyString(), eq("family"),
+                any(LocalDateTime.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reusedTokenRevokesFamily() {
+        when(jdbcTemplate.query(startsWith("UPDATE refresh_tokens"), any(RowMapper.class), any(), anyString(), any()))
+                .thenReturn(List.of());
+        when(jdbcTemplate.queryForList(contains("revoked_at IS NOT NULL"), eq(String.class), anyString()))
+                .thenReturn(List.of("family"));
+
+        assertThatThrownBy(() -> refreshTokenService.rotate("used-token"))
+                .isInstanceOf(BadCredentialsException.class);
+        verify(jdbcTemplate).update(startsWith("UPDATE refresh_tokens SET revoked_at"), any(LocalDateTime.class),
+                eq("family"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void unknownTokenIsRejected() {
+        when(jdbcTemplate.query(startsWith("UPDATE refresh_tokens"), any(RowMapper.class), any(), anyString(), any()))
+                .thenReturn(List.of());
+        when(jdbcTemplate.queryForList(contains("revoked_at IS NOT NULL"), eq(String.class), anyString()))
+                .thenReturn(List.of());
+
+        assertThatThrownBy(() -> refreshTokenService.rotate("unknown"))
+                .isInstanceOf(BadCredentialsException.class);
+        verify(jdbcTemplate, never()).update(anyString(), any(), any());
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.reminderapp.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderArchiveServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private ReminderArchiveService reminderArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reminderArchiveService, "enabled", true);
+        ReflectionTestUtils.setField(reminderArchiveService, "minAge", Duration.ofDays(30));
+        ReflectionTestUtils.setField(reminderArchiveService, "batchSize", 2);
+        ReflectionTestUtils.setField(reminderArchiveService, "maxBatches", 10);
+        ReflectionTestUtils.setField(reminderArchiveService, "throttle", Duration.ZERO);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runCallbacksInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Integer>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    @Test
+    void archiveStopsAfterPartialBatch() {
+        runCallbacksInline();
+        when(jdbcTemplate.update(anyString(), any(LocalDateTime.class), eq(2))).thenReturn(2, 2, 1);
+
+        int archived = reminderArchiveService.archiveFinishedReminders();
+
+        assertThat(archived).isEqualTo(5);
+        verify(transactionTemplate, times(3)).execute(any());
+    }
+
+    @Test
+    void archiveRespectsMaxBatches() {
+        ReflectionTestUtils.setField(reminderArchiveService, "maxBatches", 2);
+        runCallbacksInline();
+        when(jdbcTemplate.update(anyString(), any(LocalDateTime.class), eq(2))).thenReturn(2);
+
+        int archived = reminderArchiveService.archiveFinishedReminders();
+
+        assertThat(archived).isEqualTo(4);
+        verify(transactionTemplate, times(2)).execute(any());
+    }
+
+    @Test
+    void archiveOnlyMovesFinishedStatuses() {
+        runCallbacksInline();
+        when(jdbcTemplate.update(anyString(), any(LocalDateTime.class), eq(2))).thenReturn(0);
+
+        reminderArchiveService.archiveFinishedReminders();
+
+        verify(jdbcTemplate).update(argThat((String sql) -> sql.contains("'SENT'")
+                        && sql.contains("FOR UPDATE SKIP LOCKED")
+                        && !sql.contains("'PENDING'")),
+                any(LocalDateTime.class), eq(2));
+    }
+
+    @Test
+    void archiveDisabledDoesNothing() {
+        ReflectionTestUtils.setField(reminderArchiveService, "enabled", false);
+
+        assertThat(reminderArchiveService.archiveFinishedReminders()).isZero();
+        verifyNoInteractions(jdbcTemplate, transactionTemplate);
+    }
+}
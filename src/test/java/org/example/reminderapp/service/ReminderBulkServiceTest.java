@@ -0,0 +1,145 @@
+package org.example.reminderapp.service;
+
+import org.example.reminderapp.dto.request.ReminderBulkUpdateItemDto;
+import org.example.reminderapp.dto.request.ReminderCreateDto;
+import org.example.reminderapp.dto.response.ReminderBulkItemResultDto.Outcome;
+import org.example.reminderapp.dto.response.ReminderBulkResponseDto;
+import org.example.reminderapp.entity.Reminder;
+import org.example.reminderapp.entity.User;
+import org.example.reminderapp.entity.enums.ReminderType;
+import org.example.reminderapp.entity.enums.Status;
+import org.example.reminderapp.mapper.ReminderMapperDto;
+import org.example.reminderapp.repository.ReminderRepository;
+import org.example.reminderapp.repository.UserRepository;
+import org.example.reminderapp.service.search.ReminderSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderBulkServiceTest {
+
+    @Mock
+    private ReminderRepository reminderRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ReminderMapperDto reminderMapperDto;
+
+    @Mock
+    private ReminderSearchIndex reminderSearchIndex;
+
+    @Mock
+    private ReminderVersionTracker reminderVersionTracker;
+
+    @InjectMocks
+    private ReminderBulkService reminderBulkService;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reminderBulkService, "maxItems", 3);
+
+        testUser = new User();
+        testUser.setId(1L);
+    }
+
+    @Test
+    void createRemindersSuccess() {
+        ReminderCreateDto createDto = new ReminderCreateDto();
+        createDto.setTitle("New Reminder");
+        createDto.setRemindAt(OffsetDateTime.now().plusDays(1));
+        createDto.setType(ReminderType.EMAIL);
+
+        when(userRepository.getReferenceById(1L)).thenReturn(testUser);
+        when(reminderMapperDto.toEntity(createDto)).thenAnswer(invocation -> new Reminder());
+        when(reminderRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Reminder> reminders = invocation.getArgument(0);
+            for (int i = 0; i < reminders.size(); i++) {
+                reminders.get(i).setId(10L + i);
+            }
+            return reminders;
+        });
+
+        ReminderBulkResponseDto result = reminderBulkService.createReminders(List.of(createDto, createDto), 1L);
+
+        assertThat(result.getSucceeded()).isEqualTo(2);
+        assertThat(result.getResults()).extracting("id").containsExactly(10L, 11L);
+        verify(userRepository, never()).findById(any());
+        verify(reminderRepository).saveAll(argThat(reminders -> {
+            for (Reminder reminder : reminders) {
+                if (reminder.getUser() != testUser || reminder.getStatus() != Status.PENDING) {
+                    return false;
+                }
+            }
+            return true;
+        }));
+    }
+
+    @Test
+    void createRemindersTooManyItems() {
+        List<ReminderCreateDto> items = Collections.nCopies(4, new ReminderCreateDto());
+
+        assertThatThrownBy(() -> reminderBulkService.createReminders(items, 1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("limit of 3");
+
+        verify(reminderRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void updateRemindersReportsPerItemOutcome() {
+        Reminder owned = new Reminder();
+        owned.setId(1L);
+
+        ReminderBulkUpdateItemDto ownedItem = updateItem(1L);
+        ReminderBulkUpdateItemDto foreignItem = updateItem(2L);
+        ReminderBulkUpdateItemDto missingItem = updateItem(3L);
+
+        when(reminderRepository.findAllByIdInAndUserId(List.of(1L, 2L, 3L), 1L)).thenReturn(List.of(owned));
+        when(reminderRepository.findExistingIds(Set.of(2L, 3L))).thenReturn(List.of(2L));
+
+        ReminderBulkResponseDto result = reminderBulkService.updateReminders(
+                List.of(ownedItem, foreignItem, missingItem), 1L);
+
+        assertThat(result.getResults()).extracting("outcome")
+                .containsExactly(Outcome.UPDATED, Outcome.FORBIDDEN, Outcome.NOT_FOUND);
+        assertThat(result.getFailed()).isEqualTo(2);
+        verify(reminderMapperDto).updateEntity(ownedItem, owned);
+    }
+
+    @Test
+    void deleteRemindersSuccess() {
+        when(reminderRepository.findIdsByIdInAndUserId(List.of(1L, 2L), 1L)).thenReturn(List.of(1L, 2L));
+
+        ReminderBulkResponseDto result = reminderBulkService.deleteReminders(List.of(1L, 2L), 1L);
+
+        assertThat(result.getSucceeded()).isEqualTo(2);
+        verify(reminderRepository).deleteAllByIdInAndUserId(Set.of(1L, 2L), 1L);
+        verify(reminderRepository, never()).findExistingIds(any());
+    }
+
+    private ReminderBulkUpdateItemDto updateItem(Long id) {
+        ReminderBulkUpdateItemDto item = new ReminderBulkUpdateItemDto();
+        item.setId(id);
+        item.setTitle("Updated Title");
+        return item;
+    }
+}
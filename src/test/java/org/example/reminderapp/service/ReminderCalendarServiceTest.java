@@ -0,0 +1,105 @@
+package org.example.reminderapp.service;
+
+import org.example.reminderapp.dto.response.CalendarResponseDto;
+import org.example.reminderapp.entity.enums.ReminderType;
+import org.example.reminderapp.entity.enums.Status;
+import org.example.reminderapp.repository.ReminderCalendarView;
+import org.example.reminderapp.repository.ReminderHistoryRepository;
+import org.example.reminderapp.repository.ReminderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderCalendarServiceTest {
+
+    @Mock
+    private ReminderRepository reminderRepository;
+
+    @Mock
+    private ReminderHistoryRepository reminderHistoryRepository;
+
+    @InjectMocks
+    private ReminderCalendarService reminderCalendarService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reminderCalendarService, "maxDays", 62);
+    }
+
+    private static ReminderCalendarView view(Long id, OffsetDateTime remindAt) {
+        ReminderCalendarView view = mock(ReminderCalendarView.class);
+        when(view.getId()).thenReturn(id);
+        when(view.getTitle()).thenReturn("Reminder " + id);
+        when(view.getRemindAt()).thenReturn(remindAt);
+        when(view.getStatus()).thenReturn(Status.PENDING);
+        when(view.getType()).thenReturn(ReminderType.EMAIL);
+        return view;
+    }
+
+    @Test
+    void groupsByLocalDayInRequestedZone() {
+        LocalDate day = LocalDate.of(2026, 1, 10);
+        // 22:30 UTC on the 10th is already the 11th in Moscow
+        List<ReminderCalendarView> rows = List.of(
+                view(1L, OffsetDateTime.of(2026, 1, 10, 9, 0, 0, 0, ZoneOffset.UTC)),
+                view(2L, OffsetDateTime.of(2026, 1, 10, 22, 30, 0, 0, ZoneOffset.UTC)));
+        when(reminderRepository.findCalendar(eq(1L),
+                eq(OffsetDateTime.of(2026, 1, 9, 21, 0, 0, 0, ZoneOffset.UTC).withOffsetSameInstant(ZoneOffset.ofHours(3))),
+                eq(OffsetDateTime.of(2026, 1, 11, 21, 0, 0, 0, ZoneOffset.UTC).withOffsetSameInstant(ZoneOffset.ofHours(3)))))
+                .thenReturn(rows);
+
+        CalendarResponseDto calendar = reminderCalendarService.getCalendar(day, day.plusDays(1), "Europe/Moscow", false, 1L);
+
+        assertThat(calendar.getTotal()).isEqualTo(2);
+        assertThat(calendar.getDays()).hasSize(2);
+        assertThat(calendar.getDays().get(1).getDate()).isEqualTo(LocalDate.of(2026, 1, 11));
+        assertThat(calendar.getDays().get(1).getReminders().get(0).getTime()).isEqualTo(LocalTime.of(1, 30));
+        verifyNoInteractions(reminderHistoryRepository);
+    }
+
+    @Test
+    void eTagChangesWithContent() {
+        LocalDate day = LocalDate.of(2026, 1, 10);
+        OffsetDateTime at = OffsetDateTime.of(2026, 1, 10, 9, 0, 0, 0, ZoneOffset.UTC);
+        List<ReminderCalendarView> original = List.of(view(1L, at));
+        List<ReminderCalendarView> unchanged = List.of(view(1L, at));
+        List<ReminderCalendarView> rescheduled = List.of(view(1L, at.plusHours(1)));
+        when(reminderRepository.findCalendar(eq(1L), any(), any())).thenReturn(original)
+                .thenReturn(unchanged)
+                .thenReturn(rescheduled);
+
+        String first = reminderCalendarService.eTag(reminderCalendarService.getCalendar(day, day, "UTC", false, 1L));
+        String same = reminderCalendarService.eTag(reminderCalendarService.getCalendar(day, day, "UTC", false, 1L));
+        String moved = reminderCalendarService.eTag(reminderCalendarService.getCalendar(day, day, "UTC", false, 1L));
+
+        assertThat(same).isEqualTo(first);
+        assertThat(moved).isNotEqualTo(first);
+    }
+
+    @Test
+    void rejectsOversizedOrInvertedRangeAndUnknownZone() {
+        LocalDate day = LocalDate.of(2026, 1, 10);
+
+        assertThatThrownBy(() -> reminderCalendarService.getCalendar(day, day.plusDays(62), "UTC", false, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> reminderCalendarService.getCalendar(day, day.minusDays(1), "UTC", false, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> reminderCalendarService.getCalendar(day, day, "Mars/Olympus", false, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(reminderRepository);
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.reminderapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import org.example.reminderapp.dto.response.ReminderResponseDto;
+import org.example.reminderapp.entity.Reminder;
+import org.example.reminderapp.entity.enums.ReminderType;
+import org.example.reminderapp.entity.enums.Status;
+import org.example.reminderapp.mapper.ReminderMapperDto;
+import org.example.reminderapp.repository.ReminderRepository;
+import org.example.reminderapp.service.transfer.ExportFormat;
+import org.example.reminderapp.service.transfer.ReminderExportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderExportServiceTest {
+
+    @Mock
+    private ReminderRepository reminderRepository;
+
+    @Mock
+    private ReminderMapperDto reminderMapperDto;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private ReminderExportService reminderExportService;
+
+    private Reminder testReminder;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        reminderExportService = new ReminderExportService(reminderRepository, reminderMapperDto,
+                objectMapper, entityManager);
+
+        testReminder = new Reminder();
+        testReminder.setId(1L);
+        testReminder.setTitle("Встреча; с клиентом");
+        testReminder.setDescription("Обсудить условия, контракта");
+        testReminder.setRemindAt(OffsetDateTime.of(2026, 1, 10, 14, 30, 0, 0, ZoneOffset.ofHours(3)));
+        testReminder.setType(ReminderType.EMAIL);
+        testReminder.setStatus(Status.PENDING);
+    }
+
+    @Test
+    void exportNdjsonWritesOneLinePerReminder() throws Exception {
+        ReminderResponseDto dto = new ReminderResponseDto();
+        dto.setId(1L);
+        dto.setTitle("Test Reminder");
+
+        when(reminderRepository.streamAllByUserId(1L)).thenReturn(Stream.of(testReminder, testReminder));
+        when(reminderMapperDto.toDto(testReminder)).thenReturn(dto);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        reminderExportService.exportReminders(1L, ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"id\":1").contains("\"title\":\"Test Reminder\"");
+        verify(entityManager, times(2)).detach(testReminder);
+    }
+
+    @Test
+    void exportIcsWritesEscapedEvents() throws Exception {
+        when(reminderRepository.streamAllByUserId(1L)).thenReturn(Stream.of(testReminder));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        reminderExportService.exportReminders(1L, ExportFormat.ICS, out);
+
+        String calendar = out.toString(StandardCharsets.UTF_8);
+        assertThat(calendar).startsWith("BEGIN:VCALENDAR\r\n").endsWith("END:VCALENDAR\r\n");
+        assertThat(calendar).contains("DTSTART:20260110T113000Z\r\n");
+        assertThat(calendar).contains("SUMMARY:Встреча\\; с клиентом\r\n");
+        assertThat(calendar).contains("DESCRIPTION:Обсудить условия\\, контракта\r\n");
+        verify(entityManager).detach(testReminder);
+        verifyNoInteractions(reminderMapperDto);
+    }
+
+    @Test
+    void exportFormatRejectsUnknownValue() {
+        assertThat(ExportFormat.from("ICS")).isEqualTo(ExportFormat.ICS);
+        assertThatThrownBy(() -> ExportFormat.from("xml"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,164 @@
+package org.example.reminderapp.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.example.reminderapp.dto.request.ReminderCreateDto;
+import org.example.reminderapp.dto.response.ReminderImportResponseDto;
+import org.example.reminderapp.entity.Reminder;
+import org.example.reminderapp.entity.User;
+import org.example.reminderapp.entity.enums.ReminderType;
+import org.example.reminderapp.mapper.ReminderMapperDto;
+import org.example.reminderapp.repository.ReminderRepository;
+import org.example.reminderapp.service.search.ReminderSearchIndex;
+import org.example.reminderapp.service.transfer.ImportFormat;
+import org.example.reminderapp.service.transfer.ReminderImportService;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderImportServiceTest {
+
+    @Mock
+    private ReminderRepository reminderRepository;
+
+    @Mock
+    private ReminderMapperDto reminderMapperDto;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ReminderSearchIndex reminderSearchIndex;
+
+    @Mock
+    private ReminderVersionTracker reminderVersionTracker;
+
+    private ReminderImportService reminderImportService;
+
+    private final String future = OffsetDateTime.now().plusDays(1).withNano(0).toString();
+
+    @BeforeEach
+    void setUp() {
+        reminderImportService = new ReminderImportService(reminderRepository, reminderMapperDto, entityManager,
+                new TransactionTemplate(transactionManager),
+                Validation.buildDefaultValidatorFactory().getValidator(), reminderSearchIndex, reminderVersionTracker);
+        ReflectionTestUtils.setField(reminderImportService, "chunkSize", 2);
+        ReflectionTestUtils.setField(reminderImportService, "batchSize", 50);
+
+        lenient().when(entityManager.unwrap(Session.class)).thenReturn(mock(Session.class));
+        lenient().when(entityManager.getReference(User.class, 1L)).thenReturn(new User());
+        lenient().when(reminderMapperDto.toEntity(any(ReminderCreateDto.class))).thenAnswer(invocation -> new Reminder());
+    }
+
+    @Test
+    void importCsvSkipsDuplicatesAndReportsErrors() throws Exception {
+        String csv = "title,description,remindAt,type\n"
+                + "Meeting,\"Discuss, sign\"," + future + ",EMAIL\n"
+                + "Meeting,\"Discuss, sign\"," + future + ",EMAIL\n"
+                + "Call,,not-a-date,TELEGRAM\n"
+                + ",," + future + ",EMAIL\n"
+                + "Old,,2020-01-01T10:00:00Z,EMAIL\n";
+
+        when(reminderRepository.findContentHashes(eq(1L), anyCollection())).thenReturn(List.of());
+
+        ReminderImportResponseDto result = reminderImportService.importReminders(1L, ImportFormat.CSV, stream(csv));
+
+        assertThat(result.getTotal()).isEqualTo(5);
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getDuplicates()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(3);
+        assertThat(result.getErrors()).extracting("line").containsExactly(4L, 5L, 6L);
+        verify(entityManager, times(1)).persist(any(Reminder.class));
+        verify(entityManager).clear();
+    }
+
+    @Test
+    void importIsIdempotentForKnownHashes() throws Exception {
+        String csv = "title,remindAt\nMeeting," + future + "\n";
+
+        when(reminderRepository.findContentHashes(eq(1L), anyCollection()))
+                .thenAnswer(invocation -> List.copyOf(invocation.<Collection<String>>getArgument(1)));
+
+        ReminderImportResponseDto result = reminderImportService.importReminders(1L, ImportFormat.CSV, stream(csv));
+
+        assertThat(result.getImported()).isZero();
+        assertThat(result.getDuplicates()).isEqualTo(1);
+        verify(entityManager, never()).persist(any());
+    }
+
+    @Test
+    void importIcsUnfoldsLinesAndAppliesTimezone() throws Exception {
+        String ics = "BEGIN:VCALENDAR\r\n"
+                + "BEGIN:VEVENT\r\n"
+                + "DTSTART;TZID=Europe/Moscow:20991231T100000\r\n"
+                + "SUMMARY:Long\r\n"
+                + "  title\\, folded\r\n"
+                + "X-REMINDER-TYPE:TELEGRAM\r\n"
+                + "BEGIN:VALARM\r\n"
+                + "SUMMARY:ignored\r\n"
+                + "END:VALARM\r\n"
+                + "END:VEVENT\r\n"
+                + "END:VCALENDAR\r\n";
+
+        when(reminderRepository.findContentHashes(eq(1L), anyCollection())).thenReturn(List.of());
+
+        ReminderImportResponseDto result = reminderImportService.importReminders(1L, ImportFormat.ICS, stream(ics));
+
+        assertThat(result.getImported()).isEqualTo(1);
+        ArgumentCaptor<ReminderCreateDto> captor = ArgumentCaptor.forClass(ReminderCreateDto.class);
+        verify(reminderMapperDto).toEntity(captor.capture());
+        ReminderCreateDto dto = captor.getValue();
+        assertThat(dto.getTitle()).isEqualTo("Long title, folded");
+        assertThat(dto.getType()).isEqualTo(ReminderType.TELEGRAM);
+        assertThat(dto.getRemindAt().toInstant())
+                .isEqualTo(OffsetDateTime.of(2099, 12, 31, 7, 0, 0, 0, ZoneOffset.UTC).toInstant());
+    }
+
+    @Test
+    void failedChunkIsReportedAndLaterChunksStillCount() throws Exception {
+        String csv = "title,remindAt\n"
+                + "First," + future + "\n"
+                + "Second," + future + "\n"
+                + "Third," + future + "\n";
+
+        when(reminderRepository.findContentHashes(eq(1L), anyCollection()))
+                .thenThrow(new IllegalStateException("connection reset"))
+                .thenReturn(List.of());
+
+        ReminderImportResponseDto result = reminderImportService.importReminders(1L, ImportFormat.CSV, stream(csv));
+
+        assertThat(result.getTotal()).isEqualTo(3);
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting("line").containsExactly(2L, 3L);
+        verify(reminderVersionTracker).invalidate(1L);
+    }
+
+    private ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.reminderapp.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderPartitionServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ReminderPartitionService reminderPartitionService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reminderPartitionService, "premakeMonths", 2);
+        ReflectionTestUtils.setField(reminderPartitionService, "retentionMonths", 12);
+        ReflectionTestUtils.setField(reminderPartitionService, "dropExpired", true);
+    }
+
+    @Test
+    void maintainPartitionsCreatesAheadAndDropsExpired() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        String expired = partitionName(current.minusMonths(13));
+        String kept = partitionName(current.minusMonths(12));
+
+        when(jdbcTemplate.queryForObject(contains("pg_partitioned_table"), eq(Boolean.class))).thenReturn(true);
+        when(jdbcTemplate.queryForList(contains("pg_inherits"), eq(String.class)))
+                .thenReturn(List.of(expired, kept, "reminders_default"));
+
+        reminderPartitionService.maintainPartitions();
+
+        verify(jdbcTemplate, times(3)).queryForObject(eq("SELECT reminders_ensure_partition(?)"),
+                eq(String.class), any(LocalDate.class));
+        verify(jdbcTemplate).execute("ALTER TABLE reminders DETACH PARTITION " + expired);
+        verify(jdbcTemplate).execute("DROP TABLE " + expired);
+        verify(jdbcTemplate, never()).execute(contains(kept));
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Long.class), eq(kept));
+    }
+
+    @Test
+    void maintainPartitionsSettlesDerivedDataBeforeDetaching() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        String expired = partitionName(current.minusMonths(13));
+
+        when(jdbcTemplate.queryForObject(contains("pg_partitioned_table"), eq(Boolean.class))).thenReturn(true);
+        when(jdbcTemplate.queryForList(contains("pg_inherits"), eq(String.class))).thenReturn(List.of(expired));
+        lenient().when(jdbcTemplate.queryForObject(contains("reminders_partition_expire"), eq(Long.class), any()))
+                .thenReturn(42L);
+
+        reminderPartitionService.maintainPartitions();
+
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).queryForObject("SELECT reminders_partition_expire(?::regclass)",
+                Long.class, expired);
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE reminders DETACH PARTITION " + expired);
+        inOrder.verify(jdbcTemplate).execute("DROP TABLE " + expired);
+    }
+
+    @Test
+    void maintainPartitionsSkipsPlainTable() {
+        when(jdbcTemplate.queryForObject(contains("pg_partitioned_table"), eq(Boolean.class))).thenReturn(false);
+
+        reminderPartitionService.maintainPartitions();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(String.class));
+    }
+
+    @Test
+    void monthOfParsesPartitionNames() {
+        assertThat(ReminderPartitionService.monthOf("reminders_p2026_01")).isEqualTo(YearMonth.of(2026, 1));
+        assertThat(ReminderPartitionService.monthOf("reminders_default")).isNull();
+    }
+
+    private String partitionName(YearMonth month) {
+        return "reminders_p" + month.format(DateTimeFormatter.ofPattern("yyyy_MM"));
+    }
+}
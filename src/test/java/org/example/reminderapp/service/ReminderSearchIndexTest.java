@@ -0,0 +1,115 @@
+package org.example.reminderapp.service;
+
+import org.example.reminderapp.entity.Reminder;
+import org.example.reminderapp.entity.User;
+import org.example.reminderapp.service.search.ReminderSearchIndex;
+import org.example.reminderapp.service.search.ReminderTokenizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderSearchIndexTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ReminderSearchIndex reminderSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        reminderSearchIndex = new ReminderSearchIndex(jdbcTemplate, transactionTemplate);
+        ReflectionTestUtils.setField(reminderSearchIndex, "maxQueryTerms", 2);
+        ReflectionTestUtils.setField(reminderSearchIndex, "batchSize", 500);
+        ReflectionTestUtils.setField(reminderSearchIndex, "repairUsersPerRun", 2);
+        ReflectionTestUtils.setField(reminderSearchIndex, "recheckAfter", Duration.ofDays(30));
+    }
+
+    @Test
+    void foldNormalizesCaseAndDiacritics() {
+        assertThat(ReminderTokenizer.fold("Встрёча")).isEqualTo("встреча");
+        assertThat(ReminderTokenizer.fold("Café CRÈME")).isEqualTo("cafe creme");
+        assertThat(ReminderTokenizer.fold("Йогурт")).isEqualTo("йогурт");
+    }
+
+    @Test
+    void termsWeighTitleAboveDescription() {
+        assertThat(ReminderTokenizer.tokenize("Позвонить, маме: 18:00!")).containsExactly("позвонить", "маме", "18", "00");
+        assertThat(ReminderTokenizer.terms("Позвонить маме", "маме про отпуск"))
+                .containsEntry("позвонить", 3)
+                .containsEntry("маме", 4)
+                .containsEntry("отпуск", 1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void indexReplacesPreviousTerms() {
+        User user = new User();
+        user.setId(1L);
+        Reminder reminder = new Reminder();
+        reminder.setId(5L);
+        reminder.setUser(user);
+        reminder.setTitle("Купить хлеб");
+
+        reminderSearchIndex.index(reminder);
+
+        ArgumentCaptor<List<Object[]>> inserts = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("DELETE"), anyList());
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT"), inserts.capture());
+        assertThat(inserts.getValue()).extracting(row -> row[1]).containsExactly("купить", "хлеб");
+    }
+
+    @Test
+    void searchBlankQueryDoesNotHitDatabase() {
+        assertThat(reminderSearchIndex.search(1L, " ,. ", 0, 10)).isEmpty();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void searchUsesPrefixRangesAndCapsTerms() {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenReturn(List.of(7L));
+
+        List<Long> result = reminderSearchIndex.search(1L, "Вст КЛИ отпуск вст", 1, 10);
+
+        assertThat(result).containsExactly(7L);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).query(anyString(), any(RowMapper.class), args.capture());
+        assertThat(args.getValue()).containsExactly("вст", "всу", "кли", "клй", 1L, 2, 10, 10L);
+    }
+
+    @Test
+    void repairRebuildsABoundedBatchOfDueUsersAndRecordsThem() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        when(jdbcTemplate.queryForList(contains("reminder_search_checks"), eq(Long.class),
+                any(LocalDateTime.class), eq(2))).thenReturn(List.of(3L, 4L));
+
+        assertThat(reminderSearchIndex.repair()).isEqualTo(2);
+
+        verify(jdbcTemplate).update("DELETE FROM reminder_search_terms WHERE user_id = ?", 3L);
+        verify(jdbcTemplate).update(startsWith("INSERT INTO reminder_search_checks"), eq(3L));
+        verify(jdbcTemplate).update(startsWith("INSERT INTO reminder_search_checks"), eq(4L));
+        // No scan over all terms or reminders
+        verify(jdbcTemplate, never()).update(contains("NOT EXISTS"));
+    }
+}
@@ -4,13 +4,17 @@ import org.example.reminderapp.dto.request.ReminderCreateDto;
 import org.example.reminderapp.dto.response.ReminderResponseDto;
 import org.example.reminderapp.dto.request.ReminderUpdateDto;
 import org.example.reminderapp.entity.Reminder;
+import org.example.reminderapp.entity.ReminderHistory;
 import org.example.reminderapp.entity.User;
 import org.example.reminderapp.entity.enums.ReminderType;
 import org.example.reminderapp.entity.enums.Status;
+import org.example.reminderapp.exception.PreconditionFailedException;
 import org.example.reminderapp.exception.ResourceNotFoundException;
 import org.example.reminderapp.mapper.ReminderMapperDto;
+import org.example.reminderapp.repository.ReminderHistoryRepository;
 import org.example.reminderapp.repository.ReminderRepository;
 import org.example.reminderapp.repository.UserRepository;
+import org.example.reminderapp.service.search.ReminderSearchIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,6 +29,7 @@ import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -36,12 +41,21 @@ class ReminderServiceTest {
     @Mock
     private ReminderRepository reminderRepository;
 
+    @Mock
+    private ReminderHistoryRepository reminderHistoryRepository;
+
     @Mock
     private UserRepository userRepository;
 
     @Mock
     private ReminderMapperDto reminderMapperDto;
 
+    @Mock
+    private ReminderSearchIndex reminderSearchIndex;
+
+    @Mock
+    private ReminderVersionTracker reminderVersionTracker;
+
     @InjectMocks
     private ReminderService reminderService;
 
@@ -120,6 +134,8 @@ class ReminderServiceTest {
         assertThat(result).isNotNull();
         verify(userRepository).findById(1L);
         verify(reminderRepository).save(any(Reminder.class));
+        verify(reminderSearchIndex).index(testReminder);
+        verify(reminderVersionTracker).invalidate(1L);
     }
 
     @Test
@@ -136,34 +152,84 @@ class ReminderServiceTest {
         ReminderUpdateDto updateDto = new ReminderUpdateDto();
         updateDto.setTitle("Updated Title");
 
-        when(reminderRepository.findById(1L)).thenReturn(Optional.of(testReminder));
-        when(reminderRepository.save(any(Reminder.class))).thenReturn(testReminder);
+        when(reminderRepository.updateByIdAndUserId(1L, 1L, null, "Updated Title", null, null, null)).thenReturn(1);
+        when(reminderRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testReminder));
         when(reminderMapperDto.toDto(testReminder)).thenReturn(responseDto);
 
-        ReminderResponseDto result = reminderService.updateReminder(1L, updateDto, 1L);
+        ReminderResponseDto result = reminderService.updateReminder(1L, updateDto, null, 1L);
 
         assertThat(result).isNotNull();
-        verify(reminderMapperDto).updateEntity(updateDto, testReminder);
-        verify(reminderRepository).save(testReminder);
+        verify(reminderRepository, never()).findById(any());
+        verify(reminderRepository, never()).save(any());
+    }
+
+    @Test
+    void updateReminderAccessDenied() {
+        ReminderUpdateDto updateDto = new ReminderUpdateDto();
+        updateDto.setTitle("Updated Title");
+
+        when(reminderRepository.updateByIdAndUserId(1L, 2L, null, "Updated Title", null, null, null)).thenReturn(0);
+        when(reminderRepository.existsById(1L)).thenReturn(true);
+
+        assertThatThrownBy(() -> reminderService.updateReminder(1L, updateDto, null, 2L))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void updateReminderStaleVersion() {
+        ReminderUpdateDto updateDto = new ReminderUpdateDto();
+        updateDto.setTitle("Updated Title");
+
+        when(reminderRepository.updateByIdAndUserId(1L, 1L, 3L, "Updated Title", null, null, null)).thenReturn(0);
+        when(reminderRepository.existsById(1L)).thenReturn(true);
+        when(reminderRepository.existsByIdAndUserId(1L, 1L)).thenReturn(true);
+
+        assertThatThrownBy(() -> reminderService.updateReminder(1L, updateDto, Set.of(3L), 1L))
+                .isInstanceOf(PreconditionFailedException.class);
+    }
+
+    @Test
+    void updateReminderMatchesAnyListedVersion() {
+        ReminderUpdateDto updateDto = new ReminderUpdateDto();
+        updateDto.setTitle("Updated Title");
+
+        when(reminderRepository.findVersionByIdAndUserId(1L, 1L)).thenReturn(Optional.of(6L));
+        when(reminderRepository.updateByIdAndUserId(1L, 1L, 6L, "Updated Title", null, null, null)).thenReturn(1);
+        when(reminderRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testReminder));
+        when(reminderMapperDto.toDto(testReminder)).thenReturn(responseDto);
+
+        assertThat(reminderService.updateReminder(1L, updateDto, Set.of(5L, 6L), 1L)).isNotNull();
     }
 
     @Test
     void deleteReminderSuccess() {
-        when(reminderRepository.findById(1L)).thenReturn(Optional.of(testReminder));
+        when(reminderRepository.deleteByIdAndUserId(1L, 1L, null)).thenReturn(1);
 
-        reminderService.deleteReminder(1L, 1L);
+        reminderService.deleteReminder(1L, null, 1L);
 
-        verify(reminderRepository).deleteById(1L);
+        verify(reminderRepository).deleteByIdAndUserId(1L, 1L, null);
+        verify(reminderSearchIndex).remove(1L, List.of(1L));
+        verify(reminderVersionTracker).invalidate(1L);
+        verify(reminderRepository, never()).existsById(any());
     }
 
     @Test
     void deleteReminderAccessDenied() {
-        when(reminderRepository.findById(1L)).thenReturn(Optional.of(testReminder));
+        when(reminderRepository.deleteByIdAndUserId(1L, 2L, null)).thenReturn(0);
+        when(reminderRepository.existsById(1L)).thenReturn(true);
 
-        assertThatThrownBy(() -> reminderService.deleteReminder(1L, 2L))
+        assertThatThrownBy(() -> reminderService.deleteReminder(1L, null, 2L))
                 .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void deleteReminderNotFound() {
+        when(reminderRepository.deleteByIdAndUserId(999L, 1L, null)).thenReturn(0);
+        when(reminderRepository.existsById(999L)).thenReturn(false);
 
-        verify(reminderRepository, never()).deleteById(any());
+        assertThatThrownBy(() -> reminderService.deleteReminder(999L, null, 1L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Reminder not found with id: 999");
     }
 
     @Test
@@ -218,7 +284,7 @@ class ReminderServiceTest {
         when(reminderRepository.findByUserId(eq(1L), any(Pageable.class))).thenReturn(page);
         when(reminderMapperDto.toDto(testReminder)).thenReturn(responseDto);
 
-        Page<ReminderResponseDto> result = reminderService.listReminders(0, 10, 1L);
+        Page<ReminderResponseDto> result = reminderService.listReminders(0, 10, false, 1L);
 
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getTotalElements()).isEqualTo(1);
@@ -226,18 +292,45 @@ class ReminderServiceTest {
 
     @Test
     void searchRemindersSuccess() {
-        Page<Reminder> page = new PageImpl<>(List.of(testReminder));
+        Reminder other = new Reminder();
+        other.setId(2L);
+        ReminderResponseDto otherDto = new ReminderResponseDto();
+        otherDto.setId(2L);
 
-        when(reminderRepository.findByUserIdAndTitleContainingOrDescriptionContaining(
-                eq(1L), eq("Test"), eq("Test"), any(Pageable.class)
-        )).thenReturn(page);
+        when(reminderSearchIndex.search(1L, "Test", 0, 10)).thenReturn(List.of(2L, 1L));
+        when(reminderRepository.findAllByIdInAndUserId(List.of(2L, 1L), 1L)).thenReturn(List.of(testReminder, other));
         when(reminderMapperDto.toDto(testReminder)).thenReturn(responseDto);
+        when(reminderMapperDto.toDto(other)).thenReturn(otherDto);
 
-        List<ReminderResponseDto> result = reminderService.searchReminders("Test", 0, 10, 1L);
+        List<ReminderResponseDto> result = reminderService.searchReminders("Test", 0, 10, false, 1L);
 
-        assertThat(result).hasSize(1);
-        verify(reminderRepository).findByUserIdAndTitleContainingOrDescriptionContaining(
-                eq(1L), eq("Test"), eq("Test"), any(Pageable.class)
-        );
+        assertThat(result).containsExactly(otherDto, responseDto);
+    }
+
+    @Test
+    void searchRemindersNoMatches() {
+        when(reminderSearchIndex.search(1L, "Test", 0, 10)).thenReturn(List.of());
+
+        List<ReminderResponseDto> result = reminderService.searchReminders("Test", 0, 10, false, 1L);
+
+        assertThat(result).isEmpty();
+        verifyNoInteractions(reminderRepository);
+    }
+
+    @Test
+    void listRemindersIncludingArchived() {
+        ReminderHistory archived = new ReminderHistory();
+        archived.setId(2L);
+        archived.setStatus(Status.SENT);
+        archived.setArchived(true);
+
+        when(reminderHistoryRepository.findByUserId(eq(1L), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(archived)));
+        when(reminderMapperDto.toDto(archived)).thenReturn(responseDto);
+
+        Page<ReminderResponseDto> result = reminderService.listReminders(0, 10, true, 1L);
+
+        assertThat(result.getContent()).hasSize(1);
+        verifyNoInteractions(reminderRepository);
     }
 }
@@ -0,0 +1,75 @@
+package org.example.reminderapp.service;
+
+import org.example.reminderapp.dto.response.ReminderStatsResponseDto;
+import org.example.reminderapp.entity.enums.ReminderType;
+import org.example.reminderapp.entity.enums.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderStatsServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ReminderStatsService reminderStatsService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reminderStatsService, "reconcileBatchSize", 2);
+    }
+
+    @Test
+    void getStatsFoldsCounterRows() throws Exception {
+        String today = LocalDate.now(ZoneOffset.UTC).toString();
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("dimension")).thenReturn("status", "status", "type", "day");
+        when(rs.getString("bucket")).thenReturn("PENDING", "SENT", "EMAIL", today);
+        when(rs.getLong("count")).thenReturn(3L, 5L, 8L, 2L);
+
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (int i = 0; i < 4; i++) {
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(1L), eq(today), anyString());
+
+        ReminderStatsResponseDto stats = reminderStatsService.getStats(1L);
+
+        assertThat(stats.getTotal()).isEqualTo(8);
+        assertThat(stats.getByStatus()).containsEntry(Status.PENDING, 3L).containsEntry(Status.SENT, 5L);
+        assertThat(stats.getByType()).containsEntry(ReminderType.EMAIL, 8L);
+        assertThat(stats.getDueToday()).isEqualTo(2);
+        assertThat(stats.getDueThisWeek()).isEqualTo(2);
+    }
+
+    @Test
+    void reconcileAllWalksUsersInPages() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(0L), eq(2))).thenReturn(List.of(1L, 2L));
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(2L), eq(2))).thenReturn(List.of(3L));
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), anyLong())).thenReturn(0, 2, 0);
+
+        int fixed = reminderStatsService.reconcileAll();
+
+        assertThat(fixed).isEqualTo(2);
+        verify(jdbcTemplate, times(3)).queryForObject(eq("SELECT reminder_stats_reconcile(?)"), eq(Integer.class), anyLong());
+    }
+}
@@ -0,0 +1,161 @@
+package org.example.reminderapp.service;
+
+import org.example.reminderapp.dto.response.ReminderChangesResponseDto;
+import org.example.reminderapp.dto.response.ReminderResponseDto;
+import org.example.reminderapp.entity.enums.Status;
+import org.example.reminderapp.exception.SyncTokenExpiredException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderSyncServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ReminderSyncService reminderSyncService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reminderSyncService, "pageSize", 2);
+        ReflectionTestUtils.setField(reminderSyncService, "tombstoneRetention", Duration.ofDays(30));
+        ReflectionTestUtils.setField(reminderSyncService, "purgeBatchSize", 2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void firstSyncReturnsLiveRemindersWithoutTombstones() throws Exception {
+        stubRows("FROM reminders ", 0L, reminderRow(10L, 7L), reminderRow(11L, 9L));
+
+        ReminderChangesResponseDto changes = reminderSyncService.changesSince(null, 1L);
+
+        assertThat(changes.getChanged()).extracting(ReminderResponseDto::getId).containsExactly(10L, 11L);
+        assertThat(changes.getChanged().get(0).getStatus()).isEqualTo(Status.PENDING);
+        assertThat(changes.getChanged().get(0).getRemindAt().getOffset()).isEqualTo(ZoneOffset.UTC);
+        assertThat(changes.getDeleted()).isEmpty();
+        assertThat(changes.isHasMore()).isFalse();
+        assertThat(decode(changes.getNextToken())).startsWith("9.");
+        verify(jdbcTemplate, never()).query(contains("reminder_tombstones"), any(RowMapper.class), any(), any(), any());
+    }
+
+    @Test
+    void changesAndTombstonesAreMergedInPositionOrderAndPaged() throws Exception {
+        stubRows("FROM reminders ", 5L, reminderRow(10L, 8L), reminderRow(11L, 12L));
+        stubRows("FROM reminder_tombstones", 5L, tombstoneRow(20L, 6L), tombstoneRow(21L, 13L));
+        long issuedAt = Instant.now().minus(Duration.ofDays(2)).getEpochSecond();
+
+        ReminderChangesResponseDto changes = reminderSyncService.changesSince(token(5, issuedAt), 1L);
+
+        assertThat(changes.getDeleted()).containsExactly(20L);
+        assertThat(changes.getChanged()).extracting(ReminderResponseDto::getId).containsExactly(10L);
+        assertThat(changes.isHasMore()).isTrue();
+        // Not caught up yet, so the token keeps its original age
+        assertThat(decode(changes.getNextToken())).isEqualTo("8." + issuedAt);
+    }
+
+    @Test
+    void emptyChangesKeepPositionAndRenewToken() throws Exception {
+        stubRows("FROM reminders ", 5L);
+        stubRows("FROM reminder_tombstones", 5L);
+        long issuedAt = Instant.now().minus(Duration.ofDays(2)).getEpochSecond();
+
+        ReminderChangesResponseDto changes = reminderSyncService.changesSince(token(5, issuedAt), 1L);
+
+        assertThat(changes.getChanged()).isEmpty();
+        assertThat(changes.getDeleted()).isEmpty();
+        assertThat(changes.isHasMore()).isFalse();
+        String next = decode(changes.getNextToken());
+        assertThat(next).startsWith("5.");
+        assertThat(Long.parseLong(next.substring(2))).isGreaterThan(issuedAt);
+    }
+
+    @Test
+    void tokenOlderThanTombstoneRetentionIsRejected() {
+        long issuedAt = Instant.now().minus(Duration.ofDays(31)).getEpochSecond();
+
+        assertThatThrownBy(() -> reminderSyncService.changesSince(token(5, issuedAt), 1L))
+                .isInstanceOf(SyncTokenExpiredException.class);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void malformedTokenIsRejected() {
+        assertThatThrownBy(() -> reminderSyncService.changesSince("not-a-token", 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void purgeTombstonesDeletesInBatches() {
+        when(jdbcTemplate.update(anyString(), any(LocalDateTime.class), eq(2))).thenReturn(2, 2, 1);
+
+        int purged = reminderSyncService.purgeTombstones();
+
+        assertThat(purged).isEqualTo(5);
+        verify(jdbcTemplate, times(3)).update(contains("DELETE FROM reminder_tombstones"), any(LocalDateTime.class), eq(2));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubRows(String from, long after, ResultSet... rows) throws Exception {
+        doAnswer(invocation -> {
+            RowMapper<Object> mapper = invocation.getArgument(1);
+            List<Object> mapped = new ArrayList<>();
+            for (int i = 0; i < rows.length; i++) {
+                mapped.add(mapper.mapRow(rows[i], i));
+            }
+            return mapped;
+        }).when(jdbcTemplate).query(contains(from), any(RowMapper.class), eq(1L), eq(after), eq(3));
+    }
+
+    private ResultSet reminderRow(long id, long position) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("id")).thenReturn(id);
+        when(rs.getString("title")).thenReturn("Reminder " + id);
+        when(rs.getString("description")).thenReturn("Details");
+        when(rs.getObject("remind_at", LocalDateTime.class)).thenReturn(LocalDateTime.of(2026, 1, 10, 14, 30));
+        when(rs.getString("type")).thenReturn("EMAIL");
+        when(rs.getString("status")).thenReturn("PENDING");
+        when(rs.getLong("user_id")).thenReturn(1L);
+        when(rs.getLong("version")).thenReturn(0L);
+        when(rs.getLong("change_seq")).thenReturn(position);
+        return rs;
+    }
+
+    private ResultSet tombstoneRow(long reminderId, long position) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("reminder_id")).thenReturn(reminderId);
+        when(rs.getLong("change_seq")).thenReturn(position);
+        return rs;
+    }
+
+    private static String token(long position, long issuedAt) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((position + "." + issuedAt).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static String decode(String token) {
+        return new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+    }
+}
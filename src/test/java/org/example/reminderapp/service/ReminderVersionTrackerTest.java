@@ -0,0 +1,72 @@
+package org.example.reminderapp.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderVersionTrackerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ReminderVersionTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new ReminderVersionTracker(jdbcTemplate, new SimpleMeterRegistry(), Duration.ofMinutes(1), 100);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void versionIsLoadedOnceAndReloadedAfterInvalidate() {
+        when(jdbcTemplate.queryForList(startsWith("SELECT version"), eq(Long.class), eq(1L)))
+                .thenReturn(List.of(41L), List.of(57L));
+
+        assertThat(tracker.currentVersion(1L)).isEqualTo(41L);
+        assertThat(tracker.currentVersion(1L)).isEqualTo(41L);
+
+        tracker.invalidate(1L);
+
+        assertThat(tracker.currentVersion(1L)).isEqualTo(57L);
+        verify(jdbcTemplate, times(2)).queryForList(anyString(), eq(Long.class), eq(1L));
+    }
+
+    @Test
+    void userWithoutChangesIsAtVersionZero() {
+        when(jdbcTemplate.queryForList(startsWith("SELECT version"), eq(Long.class), eq(2L))).thenReturn(List.of());
+
+        assertThat(tracker.currentVersion(2L)).isZero();
+    }
+
+    @Test
+    void itemTagMatchesOnlyAtCurrentUserVersion() {
+        String tag = tracker.itemETag(3, 10L, 7L, 41);
+
+        assertThat(tracker.matchingItemETag(tag, 10L, 7L, 41)).isEqualTo(tag);
+        assertThat(tracker.matchingItemETag("\"9:1\", W/" + tag, 10L, 7L, 41)).isEqualTo(tag);
+        assertThat(tracker.matchingItemETag(tag, 10L, 7L, 42)).isNull();
+        assertThat(tracker.matchingItemETag(tracker.listETag(7L, 41), 10L, 7L, 41)).isNull();
+        assertThat(tracker.matchingItemETag(null, 10L, 7L, 41)).isNull();
+    }
+
+    @Test
+    void itemTagIsBoundToReminderAndOwner() {
+        String tag = tracker.itemETag(3, 10L, 7L, 41);
+
+        assertThat(tracker.matchingItemETag(tag, 11L, 7L, 41)).isNull();
+        assertThat(tracker.matchingItemETag(tag, 10L, 8L, 41)).isNull();
+        assertThat(tracker.matchingItemETag(tag, 110L, 7L, 41)).isNull();
+    }
+}
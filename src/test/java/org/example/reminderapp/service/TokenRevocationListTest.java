@@ -0,0 +1,102 @@
+package org.example.reminderapp.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationListTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private TokenRevocationList tokenRevocationList;
+
+    @Test
+    void revokedIdIsRejectedImmediately() {
+        tokenRevocationList.revoke("jti-1", Instant.now().plus(10, ChronoUnit.MINUTES));
+
+        assertThat(tokenRevocationList.isRevoked("jti-1")).isTrue();
+        assertThat(tokenRevocationList.isRevoked("jti-2")).isFalse();
+        assertThat(tokenRevocationList.isRevoked(null)).isFalse();
+        verify(jdbcTemplate).update(startsWith("INSERT INTO revoked_tokens"), eq("jti-1"), any(LocalDateTime.class));
+    }
+
+    @Test
+    void revokedUserIsRejectedImmediately() {
+        ReflectionTestUtils.setField(tokenRevocationList, "accessTokenLifetime", 900000L);
+
+        tokenRevocationList.revokeUser(7L);
+
+        assertThat(tokenRevocationList.isUserRevoked(7L)).isTrue();
+        assertThat(tokenRevocationList.isUserRevoked(8L)).isFalse();
+        assertThat(tokenRevocationList.isUserRevoked(null)).isFalse();
+        assertThat(tokenRevocationList.isRevoked("7")).isFalse();
+        verify(jdbcTemplate).update(contains("ON CONFLICT (jti) DO UPDATE"), eq("user:7"), any(LocalDateTime.class));
+    }
+
+    @Test
+    void suspendedUserStaysRevokedUntilRevokedForGood() {
+        ReflectionTestUtils.setField(tokenRevocationList, "accessTokenLifetime", 900000L);
+
+        tokenRevocationList.suspendUser(7L);
+        tokenRevocationList.revokeUser(7L);
+
+        assertThat(tokenRevocationList.isUserRevoked(7L)).isTrue();
+        verify(jdbcTemplate).update(contains("ON CONFLICT (jti) DO UPDATE"), eq("user:7"),
+                argThat((LocalDateTime expiresAt) -> expiresAt.isAfter(LocalDateTime.now(ZoneOffset.UTC).plusYears(1))));
+        verify(jdbcTemplate).update(contains("ON CONFLICT (jti) DO UPDATE"), eq("user:7"),
+                argThat((LocalDateTime expiresAt) -> expiresAt.isBefore(LocalDateTime.now(ZoneOffset.UTC).plusMinutes(16))));
+    }
+
+    @Test
+    void refreshLoadsOtherInstancesAndKeepsUnexpiredLocalIds() throws Exception {
+        tokenRevocationList.revoke("local", Instant.now().plus(10, ChronoUnit.MINUTES));
+        tokenRevocationList.revoke("expired", Instant.now().minus(1, ChronoUnit.MINUTES));
+
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("jti")).thenReturn("remote");
+        when(rs.getTimestamp("expires_at"))
+                .thenReturn(Timestamp.valueOf(LocalDateTime.now(ZoneOffset.UTC).plusMinutes(10)));
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT jti"), any(RowCallbackHandler.class));
+
+        assertThat(tokenRevocationList.refresh()).isEqualTo(2);
+
+        assertThat(tokenRevocationList.isRevoked("remote")).isTrue();
+        assertThat(tokenRevocationList.isRevoked("local")).isTrue();
+        assertThat(tokenRevocationList.isRevoked("expired")).isFalse();
+        verify(jdbcTemplate).update(startsWith("DELETE FROM revoked_tokens"), any(LocalDateTime.class));
+    }
+
+    @Test
+    void overfilledFilterStaysExact() {
+        Instant expiresAt = Instant.now().plus(10, ChronoUnit.MINUTES);
+        IntStream.range(0, 5000).forEach(i -> tokenRevocationList.revoke("revoked-" + i, expiresAt));
+
+        assertThat(IntStream.range(0, 5000).allMatch(i -> tokenRevocationList.isRevoked("revoked-" + i))).isTrue();
+        assertThat(IntStream.range(0, 5000).noneMatch(i -> tokenRevocationList.isRevoked(UUID.randomUUID().toString())))
+                .isTrue();
+    }
+}
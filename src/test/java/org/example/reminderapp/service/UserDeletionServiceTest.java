@@ -0,0 +1,116 @@
+package org.example.reminderapp.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserDeletionServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private UserCacheEvictor userCacheEvictor;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @InjectMocks
+    private UserDeletionService userDeletionService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userDeletionService, "asyncThreshold", 100L);
+        ReflectionTestUtils.setField(userDeletionService, "batchSize", 2);
+        ReflectionTestUtils.setField(userDeletionService, "throttle", Duration.ZERO);
+        ReflectionTestUtils.setField(userDeletionService, "lease", Duration.ofMinutes(5));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runCallbacksInline() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        lenient().doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void smallAccountIsDeletedWithSingleStatement() {
+        runCallbacksInline();
+        when(jdbcTemplate.queryForObject(contains("reminder_stats"), eq(Long.class), eq(1L))).thenReturn(40L);
+
+        assertThat(userDeletionService.requestDeletion(1L)).isEmpty();
+
+        verify(jdbcTemplate).update("DELETE FROM users WHERE id = ?", 1L);
+        verify(jdbcTemplate, never()).update(startsWith("INSERT INTO user_deletions"), any(Object[].class));
+        verify(userCacheEvictor).evict(1L);
+        // Refused only once the deletion has committed
+        InOrder inOrder = inOrder(transactionTemplate, tokenRevocationList);
+        inOrder.verify(transactionTemplate).executeWithoutResult(any());
+        inOrder.verify(tokenRevocationList).revokeUser(1L);
+    }
+
+    @Test
+    void largeAccountIsQueued() {
+        UUID deletionId = UUID.randomUUID();
+        when(jdbcTemplate.queryForObject(contains("reminder_stats"), eq(Long.class), eq(1L))).thenReturn(500L);
+        when(jdbcTemplate.queryForObject(startsWith("INSERT INTO user_deletions"), eq(UUID.class), eq(1L)))
+                .thenReturn(deletionId);
+
+        assertThat(userDeletionService.requestDeletion(1L)).contains(deletionId);
+
+        verify(jdbcTemplate, never()).update("DELETE FROM users WHERE id = ?", 1L);
+        verifyNoInteractions(userCacheEvictor);
+        // Tokens stop working now, not when the background purge gets to the account
+        verify(tokenRevocationList).suspendUser(1L);
+        verify(tokenRevocationList, never()).revokeUser(any());
+        verify(refreshTokenService).revokeUser(1L);
+    }
+
+    @Test
+    void queuedAccountIsPurgedInChunksBeforeUserRow() {
+        runCallbacksInline();
+        when(jdbcTemplate.queryForList(contains("UPDATE user_deletions"), eq(Long.class), any(LocalDateTime.class)))
+                .thenReturn(List.of(7L))
+                .thenReturn(List.of());
+        lenient().when(jdbcTemplate.update(contains("DELETE FROM reminder_search_terms"), eq(7L), eq(2), eq(7L))).thenReturn(1);
+        lenient().when(jdbcTemplate.update(contains("DELETE FROM reminders r"), eq(7L), eq(2), eq(7L))).thenReturn(2, 2, 0);
+        lenient().when(jdbcTemplate.update(contains("DELETE FROM reminders_archive"), eq(7L), eq(2), eq(7L))).thenReturn(0);
+
+        assertThat(userDeletionService.processQueued()).isEqualTo(1);
+
+        verify(jdbcTemplate, times(3)).update(contains("DELETE FROM reminders r"), eq(7L), eq(2), eq(7L));
+        verify(jdbcTemplate).update("DELETE FROM users WHERE id = ?", 7L);
+        verify(jdbcTemplate).update(contains("status = 'DONE'"), eq(7L));
+        verify(userCacheEvictor).evict(7L);
+        verify(tokenRevocationList).revokeUser(7L);
+    }
+}
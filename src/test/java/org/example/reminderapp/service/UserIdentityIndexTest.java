@@ -0,0 +1,84 @@
+package org.example.reminderapp.service;
+
+import org.example.reminderapp.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserIdentityIndexTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private UserIdentityIndex userIdentityIndex;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userIdentityIndex, "batchSize", 2);
+        ReflectionTestUtils.setField(userIdentityIndex, "minCapacity", 1000);
+    }
+
+    @Test
+    void everythingMightExistBeforeFirstBuild() {
+        assertThat(userIdentityIndex.mightContainUsername("anyone")).isTrue();
+        assertThat(userIdentityIndex.mightContainEmail("anyone@example.com")).isTrue();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rebuildPagesThroughUsers() {
+        when(jdbcTemplate.queryForObject(startsWith("SELECT count(*)"), eq(Integer.class))).thenReturn(3);
+        when(jdbcTemplate.query(startsWith("SELECT id, username, email"), any(RowMapper.class), eq(0L), eq(2)))
+                .thenReturn(List.of(new Object[]{1L, "alice", "alice@example.com"},
+                        new Object[]{2L, "bob", "bob@example.com"}));
+        when(jdbcTemplate.query(startsWith("SELECT id, username, email"), any(RowMapper.class), eq(2L), eq(2)))
+                .thenReturn(List.<Object[]>of(new Object[]{5L, "carol", "carol@example.com"}));
+
+        userIdentityIndex.rebuild();
+
+        assertThat(userIdentityIndex.mightContainUsername("alice")).isTrue();
+        assertThat(userIdentityIndex.mightContainUsername("carol")).isTrue();
+        assertThat(userIdentityIndex.mightContainEmail("bob@example.com")).isTrue();
+        assertThat(userIdentityIndex.mightContainUsername("dave")).isFalse();
+        assertThat(userIdentityIndex.mightContainEmail("dave@example.com")).isFalse();
+    }
+
+    @Test
+    void addedUsersAreVisible() {
+        when(jdbcTemplate.queryForObject(startsWith("SELECT count(*)"), eq(Integer.class))).thenReturn(0);
+        userIdentityIndex.rebuild();
+
+        User user = new User();
+        user.setUsername("erin");
+        user.setEmail("erin@example.com");
+        userIdentityIndex.add(user);
+
+        assertThat(userIdentityIndex.mightContainUsername("erin")).isTrue();
+        assertThat(userIdentityIndex.mightContainEmail("erin@example.com")).isTrue();
+    }
+
+    @Test
+    void failedBuildKeepsCheckingTheDatabase() {
+        when(jdbcTemplate.queryForObject(startsWith("SELECT count(*)"), eq(Integer.class)))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        userIdentityIndex.rebuild();
+
+        assertThat(userIdentityIndex.mightContainUsername("anyone")).isTrue();
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.reminderapp.service;
+
+import org.example.reminderapp.dto.request.UserFilterDto;
+import org.example.reminderapp.service.search.UserSearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserSearchServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private UserSearchService userSearchService;
+
+    @BeforeEach
+    void setUp() {
+        userSearchService = new UserSearchService(jdbcTemplate);
+        ReflectionTestUtils.setField(userSearchService, "maxQueryTerms", 8);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void searchMatchesEveryWordAndKeepsFilters() {
+        UserFilterDto filter = new UserFilterDto();
+        filter.setQuery("  Ivan Petrov ivan ");
+        filter.setEmail("Example");
+
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), any(Object[].class))).thenReturn(3L);
+        when(jdbcTemplate.query(anyString(), ArgumentMatchers.<RowMapper<Long>>any(), any(Object[].class))).thenReturn(List.of(5L, 2L));
+
+        Page<Long> result = userSearchService.search(filter, PageRequest.of(0, 2));
+
+        assertThat(result.getContent()).containsExactly(5L, 2L);
+        assertThat(result.getTotalElements()).isEqualTo(3);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).query(sql.capture(), ArgumentMatchers.<RowMapper<Long>>any(), args.capture());
+        assertThat(sql.getValue())
+                .contains("? <% lower(u.username)")
+                .contains("lower(u.email) LIKE ?")
+                .endsWith("ORDER BY score DESC, u.id DESC LIMIT ? OFFSET ?");
+        // two distinct words, each scored and matched against four columns, plus filter and paging
+        assertThat(args.getValue()).hasSize(8 + 8 + 1 + 2);
+        assertThat(args.getValue()).contains("ivan", "petrov", "%example%");
+    }
+
+    @Test
+    void searchSkipsPageQueryWhenNothingMatches() {
+        UserFilterDto filter = new UserFilterDto();
+        filter.setQuery("nobody");
+
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), any(Object[].class))).thenReturn(0L);
+
+        Page<Long> result = userSearchService.search(filter, PageRequest.of(0, 20));
+
+        assertThat(result).isEmpty();
+        verify(jdbcTemplate, never()).query(anyString(), ArgumentMatchers.<RowMapper<Long>>any(), any(Object[].class));
+    }
+}
@@ -1,19 +1,26 @@
 package org.example.reminderapp.service;
 
+import org.example.reminderapp.dto.request.UserFilterDto;
 import org.example.reminderapp.dto.response.UserProfileResponseDto;
 import org.example.reminderapp.dto.request.UserProfileUpdateDto;
 import org.example.reminderapp.entity.User;
 import org.example.reminderapp.exception.ResourceNotFoundException;
 import org.example.reminderapp.mapper.UserMapperDto;
 import org.example.reminderapp.repository.UserRepository;
+import org.example.reminderapp.service.search.UserSearchService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -29,6 +36,21 @@ class UserServiceTest {
     @Mock
     private UserMapperDto userMapperDto;
 
+    @Mock
+    private UserCacheEvictor userCacheEvictor;
+
+    @Mock
+    private UserSearchService userSearchService;
+
+    @Mock
+    private UserDeletionService userDeletionService;
+
+    @Mock
+    private UserIdentityIndex userIdentityIndex;
+
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -50,6 +72,29 @@ class UserServiceTest {
         responseDto.setEmail("test@example.com");
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void findAllUserRanksFreeTextQuery() {
+        User other = new User();
+        other.setId(2L);
+        UserProfileResponseDto otherDto = new UserProfileResponseDto();
+        otherDto.setId(2L);
+        UserFilterDto filter = new UserFilterDto();
+        filter.setQuery("jon");
+        PageRequest pageable = PageRequest.of(0, 20);
+
+        when(userSearchService.search(filter, pageable)).thenReturn(new PageImpl<>(List.of(2L, 1L), pageable, 2));
+        when(userRepository.loadAllById(List.of(2L, 1L))).thenReturn(List.of(other, testUser));
+        when(userMapperDto.toDto(testUser)).thenReturn(responseDto);
+        when(userMapperDto.toDto(other)).thenReturn(otherDto);
+
+        Page<UserProfileResponseDto> result = userService.findAllUser(filter, pageable);
+
+        assertThat(result.getContent()).containsExactly(otherDto, responseDto);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        verify(userRepository, never()).findAll(any(Specification.class), any(PageRequest.class));
+    }
+
     @Test
     void findUserByIdSuccess() {
         when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
@@ -85,6 +130,8 @@ class UserServiceTest {
         assertThat(result).isNotNull();
         verify(userMapperDto).updateEntity(updateDto, testUser);
         verify(userRepository).save(testUser);
+        verify(userIdentityIndex).add(testUser);
+        verify(userCacheEvictor).evict(1L);
     }
 
     @Test
@@ -98,14 +145,28 @@ class UserServiceTest {
                 .hasMessageContaining("You can only update your own profile");
 
         verify(userRepository, never()).save(any());
+        verifyNoInteractions(userCacheEvictor);
     }
 
     @Test
     void deleteUserSuccess() {
         when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
 
-        userService.deleteUser(1L, 1L);
+        when(userDeletionService.requestDeletion(1L)).thenReturn(Optional.empty());
+
+        assertThat(userService.deleteUser(1L, 1L)).isEmpty();
+
+        verify(verifiedTokenCache).invalidateSubject("testuser");
+        verify(userRepository, never()).deleteById(any());
+        verify(userRepository, never()).delete(any(User.class));
+    }
+
+    @Test
+    void deleteUserAccessDenied() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
 
-        verify(userRepository).deleteById(1L);
+        assertThatThrownBy(() -> userService.deleteUser(1L, 2L))
+                .isInstanceOf(AccessDeniedException.class);
+        verifyNoInteractions(userDeletionService);
     }
 }
@@ -0,0 +1,82 @@
+package org.example.reminderapp.service;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.reminderapp.entity.User;
+import org.example.reminderapp.entity.enums.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET =
+            "thisIsAVeryLongSecretKeyThatIsDefinitelyMoreThanSixtyFourBytesLongToSatisfyHsFiveTwelveSecurityRequirementsAndItShouldWorkNowForSure1234567890";
+
+    private JwtService jwtService;
+    private MeterRegistry meterRegistry;
+    private VerifiedTokenCache verifiedTokenCache;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = spy(new JwtService(SECRET, 86400000L));
+        meterRegistry = new SimpleMeterRegistry();
+        verifiedTokenCache = new VerifiedTokenCache(jwtService, meterRegistry, true, 100, Duration.ofMinutes(10));
+
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setUsername("testuser");
+        testUser.setRole(Role.USER);
+    }
+
+    @Test
+    void repeatedTokenIsVerifiedOnce() {
+        String token = jwtService.generateToken(testUser);
+
+        VerifiedToken first = verifiedTokenCache.verify(token);
+        VerifiedToken second = verifiedTokenCache.verify(token);
+
+        assertThat(second).isSameAs(first);
+        verify(jwtService, times(1)).verify(token);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwt.verified-tokens").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidatedTokenIsVerifiedAgain() {
+        String token = jwtService.generateToken(testUser);
+        verifiedTokenCache.verify(token);
+
+        verifiedTokenCache.invalidateSubject("testuser");
+        verifiedTokenCache.verify(token);
+
+        verify(jwtService, times(2)).verify(token);
+    }
+
+    @Test
+    void expiredTokenIsNeverCached() {
+        String expired = new JwtService(SECRET, -1000L).generateToken(testUser);
+
+        assertThatThrownBy(() -> verifiedTokenCache.verify(expired)).isInstanceOf(ExpiredJwtException.class);
+        assertThatThrownBy(() -> verifiedTokenCache.verify(expired)).isInstanceOf(ExpiredJwtException.class);
+        verify(jwtService, times(2)).verify(expired);
+    }
+
+    @Test
+    void disabledCacheAlwaysVerifies() {
+        VerifiedTokenCache disabled = new VerifiedTokenCache(jwtService, new SimpleMeterRegistry(), false, 100,
+                Duration.ofMinutes(10));
+        String token = jwtService.generateToken(testUser);
+
+        disabled.verify(token);
+        disabled.verify(token);
+
+        verify(jwtService, times(2)).verify(token);
+    }
+}